@@ -45,6 +45,110 @@ tasks.getByName("bootJar") {
 tasks.getByName("jar") {
     enabled = false
 }
+// fast startup mode (./gradlew fastStartup -PfastStartup)
+// - Spring AOT 로 빈 정의를 빌드 시점에 생성해 bootJar 에 포함 (실행 시 -Dspring.aot.enabled=true)
+// - bootJar 를 풀어낸 뒤 한 번 기동해 AppCDS 아카이브를 생성
+// AOT 처리 시점에 @ConditionalOnProperty 가 평가되므로, 조건부 기능(point.partition 등)은 빌드할 때 켜둬야 한다.
+val fastStartup = project.hasProperty("fastStartup")
+val fastStartupDir = layout.buildDirectory.dir("fast-startup")
+if (fastStartup) {
+    apply(plugin = "org.springframework.boot.aot")
+}
+
+val extractBootJar by tasks.registering(Exec::class) {
+    group = "fast startup"
+    description = "bootJar 를 CDS 에 맞는 디렉터리 구조로 풀어냄"
+    dependsOn(tasks.named("bootJar"))
+    val bootJar = tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar")
+    commandLine(
+        "java", "-Djarmode=tools", "-jar", bootJar.get().archiveFile.get().asFile.absolutePath,
+        "extract", "--force", "--destination", fastStartupDir.get().asFile.absolutePath
+    )
+}
+
+val cdsArchive by tasks.registering(Exec::class) {
+    group = "fast startup"
+    description = "컨텍스트 refresh 까지 기동했다가 종료하며 AppCDS 아카이브(app.jsa)를 생성"
+    dependsOn(extractBootJar)
+    workingDir(fastStartupDir)
+    commandLine(
+        "java", "-XX:ArchiveClassesAtExit=app.jsa", "-Dspring.context.exit=onRefresh",
+        "-Dspring.aot.enabled=$fastStartup", "-jar",
+        tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar").get().archiveFileName.get()
+    )
+}
+
+// 실행: cd build/fast-startup && java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar <bootJar 파일명>
+tasks.register("fastStartup") {
+    group = "fast startup"
+    description = "AOT 처리된 bootJar 와 AppCDS 아카이브를 build/fast-startup 에 생성"
+    dependsOn(cdsArchive)
+}
+
+// load generator (./gradlew loadTest -Pargs="--mode=closed --concurrency=64 --duration=30")
+// 실행 중인 애플리케이션에 HTTP 부하를 주는 별도 소스셋. 애플리케이션 코드에 의존하지 않는다.
+val loadtest by sourceSets.creating
+
+// LatencyHistogram, ZipfianGenerator 단위 테스트는 test 소스셋에서 같은 패키지로 작성
+sourceSets.test {
+    compileClasspath += loadtest.output
+    runtimeClasspath += loadtest.output
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "PointController 에 open/closed-loop 부하를 주고 처리량과 지연 백분위를 출력"
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.loadgen.PointLoadGenerator")
+    args = (project.findProperty("args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+// cold 세그먼트 내역 조회 벤치마크 (./gradlew coldHistoryRead -Pargs="--hot-capacity=10000 --users=1000")
+// 계층형 내역 저장소를 켠 새 인스턴스에 내역을 봉인시킨 뒤 cold/hot 유저의 내역 조회 지연을 비교
+tasks.register<JavaExec>("coldHistoryRead") {
+    group = "verification"
+    description = "세그먼트에 봉인된 내역과 hot 내역의 GET /point/{id}/histories 지연 백분위를 출력"
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.loadgen.ColdHistoryReadBenchmark")
+    args = (project.findProperty("args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+// JMH 벤치마크 (./gradlew jmh -Pargs="PointLeaderboardBenchmark -f 1 -wi 3 -i 5")
+// 애플리케이션 클래스를 직접 호출하는 마이크로벤치마크 소스셋. 인자는 JMH 명령줄 옵션을 그대로 넘긴다.
+val jmhVersion = "1.37"
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+dependencies {
+    add(jmh.implementationConfigurationName, "org.openjdk.jmh:jmh-core:$jmhVersion")
+    add(jmh.annotationProcessorConfigurationName, "org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "JMH 벤치마크 실행"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args = (project.findProperty("args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+// 기동 시간 측정 (./gradlew startupTime -Pargs="--runs=5 --jvm-args=-XX:TieredStopAtLevel=1")
+// bootJar 를 별도 프로세스로 띄워 첫 GET /point/{id} 응답까지의 시간을 잰다. --jar 를 주지 않으면 방금 만든 bootJar 를 사용
+// AOT/AppCDS 비교: fastStartup 후 --workdir=build/fast-startup --jar=<bootJar 파일명> --jvm-args=-XX:SharedArchiveFile=app.jsa,-Dspring.aot.enabled=true
+tasks.register<JavaExec>("startupTime") {
+    group = "verification"
+    description = "애플리케이션을 띄워 첫 GET /point/{id} 응답까지 걸린 시간을 출력"
+    dependsOn(tasks.named("bootJar"))
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.loadgen.StartupTimer")
+    val bootJar = tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar")
+    val given = (project.findProperty("args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+    args = if (given.any { it.startsWith("--jar=") }) given
+    else given + "--jar=${bootJar.get().archiveFile.get().asFile.absolutePath}"
+}
+
 // test tasks
 tasks.test {
     ignoreFailures = true
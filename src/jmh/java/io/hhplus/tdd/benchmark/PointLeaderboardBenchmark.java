@@ -0,0 +1,95 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.config.PointHotKeyProperties;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.latency.FixedLatency;
+import io.hhplus.tdd.database.latency.LatencyModelUserPointTable;
+import io.hhplus.tdd.point.model.LeaderboardEntry;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.HotKeyDetector;
+import io.hhplus.tdd.point.service.PointChangeListener;
+import io.hhplus.tdd.point.service.PointLeaderboard;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전 경로에 순위 인덱스 갱신이 더하는 비용
+ * 같은 PointService 를 리스너 없이/PointLeaderboard 만 달아 만들고 충전 한 건의 평균 시간을 비교한다.
+ * 테이블은 지연 없는 stand-in 이고 내역은 쌓지 않아 인덱스 갱신 비용만 드러나게 한다.
+ *
+ * 예) ./gradlew jmh -Pargs="PointLeaderboardBenchmark -f 1 -wi 3 -i 5 -t 4"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointLeaderboardBenchmark {
+
+    private static final int TOP_LIMIT = 10;
+
+    @Param({"10000", "1000000"})
+    private int users;
+
+    private PointService withoutLeaderboard;
+    private PointService withLeaderboard;
+    private PointLeaderboard leaderboard;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        leaderboard = new PointLeaderboard();
+        withoutLeaderboard = pointService(List.of());
+        withLeaderboard = pointService(List.of(leaderboard));
+        // 잔액 테이블과 순위 인덱스가 users 명으로 찬 상태에서 측정
+        for (long userId = 1; userId <= users; userId++) {
+            withoutLeaderboard.charge(userId, 1 + userId % 1000);
+            withLeaderboard.charge(userId, 1 + userId % 1000);
+        }
+    }
+
+    @Benchmark
+    public UserPoint chargeWithoutLeaderboard() {
+        return withoutLeaderboard.charge(nextUser(), 1);
+    }
+
+    @Benchmark
+    public UserPoint chargeWithLeaderboard() {
+        return withLeaderboard.charge(nextUser(), 1);
+    }
+
+    @Benchmark
+    public List<LeaderboardEntry> top() {
+        return leaderboard.top(TOP_LIMIT);
+    }
+
+    private long nextUser() {
+        return 1 + ThreadLocalRandom.current().nextInt(users);
+    }
+
+    private static PointService pointService(List<PointChangeListener> listeners) {
+        return new PointService(
+                new LatencyModelUserPointTable(new FixedLatency(0), new FixedLatency(0)),
+                new DiscardingPointHistoryTable(),
+                Long.MAX_VALUE,
+                listeners,
+                new HotKeyDetector(new PointHotKeyProperties()));
+    }
+
+    /**
+     * 측정 중 내역이 쌓여 GC 비용이 섞이지 않도록 기록하지 않는 내역 테이블
+     */
+    private static final class DiscardingPointHistoryTable extends PointHistoryTable {
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(0, userId, amount, type, updateMillis);
+        }
+    }
+}
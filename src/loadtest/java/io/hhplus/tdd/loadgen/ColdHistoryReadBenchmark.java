@@ -0,0 +1,147 @@
+package io.hhplus.tdd.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계층형 내역 저장소에서 세그먼트(cold)에 봉인된 내역과 hot 에 남은 내역의 GET /point/{id}/histories 지연을 비교
+ *
+ * 1. cold 유저 users 명에게 histories-per-user 건씩 충전하고, 전체 건수가 hot-capacity 의 배수가 되도록 채워 모두 봉인시킨다.
+ * 2. seal-wait-millis 동안 봉인 스레드가 세그먼트 파일을 쓰기를 기다린다.
+ * 3. hot 유저에게 hot-capacity 의 절반 이하만 충전해 hot 에 남긴다.
+ * 4. concurrency 개 스레드가 cold/hot 유저를 번갈아 requests 번 조회하고 각각의 지연 백분위를 출력한다.
+ *
+ * 봉인 건수를 맞추려면 다른 트래픽이 없는 새 인스턴스에, 같은 hot-capacity 로 띄워 실행해야 한다.
+ * 예) java -jar app.jar --point.history.tiered.enabled=true --point.history.tiered.hot-capacity=10000
+ *     ./gradlew coldHistoryRead -Pargs="--hot-capacity=10000 --users=1000 --histories-per-user=50"
+ */
+public class ColdHistoryReadBenchmark {
+
+    private final URI target;
+    private final int users;
+    private final int historiesPerUser;
+    private final int hotCapacity;
+    private final long coldUserOffset;
+    private final long hotUserOffset;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final LatencyHistogram coldHistogram = new LatencyHistogram();
+    private final LatencyHistogram hotHistogram = new LatencyHistogram();
+    private final AtomicLong errors = new AtomicLong();
+
+    ColdHistoryReadBenchmark(Map<String, String> options) {
+        this.target = URI.create(options.getOrDefault("target", "http://localhost:8080"));
+        this.users = Integer.parseInt(options.getOrDefault("users", "1000"));
+        this.historiesPerUser = Integer.parseInt(options.getOrDefault("histories-per-user", "50"));
+        this.hotCapacity = Integer.parseInt(options.getOrDefault("hot-capacity", "100000"));
+        // 다른 부하와 겹치지 않는 유저 ID 대역
+        this.coldUserOffset = Long.parseLong(options.getOrDefault("user-offset", "1000000000"));
+        this.hotUserOffset = coldUserOffset + users;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        ColdHistoryReadBenchmark benchmark = new ColdHistoryReadBenchmark(options);
+        benchmark.seed(Long.parseLong(options.getOrDefault("seal-wait-millis", "2000")));
+        benchmark.read(
+                Integer.parseInt(options.getOrDefault("concurrency", "16")),
+                Integer.parseInt(options.getOrDefault("requests", "10000")));
+        benchmark.report();
+        System.exit(0);
+    }
+
+    void seed(long sealWaitMillis) throws Exception {
+        long coldInserts = (long) users * historiesPerUser;
+        if (coldInserts < hotCapacity) {
+            throw new IllegalArgumentException("users * histories-per-user 가 hot-capacity 이상이어야 cold 세그먼트가 생깁니다.");
+        }
+        // 유저별 내역이 여러 세그먼트에 흩어지도록 라운드마다 모든 유저를 한 번씩 충전
+        for (int round = 0; round < historiesPerUser; round++) {
+            for (int user = 0; user < users; user++) {
+                charge(coldUserOffset + user);
+            }
+        }
+        // 남는 건수만큼 마지막 cold 유저에 더 충전해 hot 을 비운 상태로 만듦
+        long padding = (hotCapacity - coldInserts % hotCapacity) % hotCapacity;
+        for (long i = 0; i < padding; i++) {
+            charge(coldUserOffset + users - 1);
+        }
+        TimeUnit.MILLISECONDS.sleep(sealWaitMillis);
+
+        int hotInserts = Math.min(users * historiesPerUser, hotCapacity / 2);
+        for (int i = 0; i < hotInserts; i++) {
+            charge(hotUserOffset + i % users);
+        }
+        System.out.printf("seeded cold=%d (+%d padding) hot=%d histories%n", coldInserts, padding, hotInserts);
+    }
+
+    void read(int concurrency, int requests) throws InterruptedException {
+        AtomicLong remaining = new AtomicLong(requests);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                while (remaining.decrementAndGet() >= 0) {
+                    boolean cold = ThreadLocalRandom.current().nextBoolean();
+                    long userId = (cold ? coldUserOffset : hotUserOffset) + ThreadLocalRandom.current().nextInt(users);
+                    HttpRequest request = HttpRequest.newBuilder(target.resolve("/point/" + userId + "/histories")).GET().build();
+                    long sentNanos = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        (cold ? coldHistogram : hotHistogram).record((System.nanoTime() - sentNanos) / 1_000);
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.MINUTES);
+    }
+
+    private void charge(long userId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(target.resolve("/point/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("1"))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("충전 실패 - userId: " + userId + ", status: " + response.statusCode());
+        }
+    }
+
+    private void report() {
+        System.out.printf("cold=%d hot=%d errors=%d%n", coldHistogram.count(), hotHistogram.count(), errors.get());
+        System.out.println("percentile | cold(ms) | hot(ms)");
+        for (double percentile : new double[]{50, 90, 99, 99.9, 100}) {
+            System.out.printf("%10s | %8.2f | %7.2f%n", percentile,
+                    coldHistogram.percentile(percentile) / 1000.0, hotHistogram.percentile(percentile) / 1000.0);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,191 @@
+package io.hhplus.tdd.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중인 PointController 에 부하를 주고 처리량과 지연 백분위를 출력
+ *
+ * - closed : concurrency 개의 가상 사용자가 응답을 받는 즉시 다음 요청을 보냄
+ * - open : 응답과 무관하게 rate(초당)로 요청을 보냄. 지연은 예정된 발송 시각부터 측정해 coordinated omission 을 피한다.
+ * - compare : 같은 closed-loop 부하를 /point 와 /async/point 에 차례로 주고 결과를 나란히 출력.
+ *   기본 concurrency 는 10000 으로, 요청마다 연결을 하나씩 잡으므로 동시 연결 수와 같다.
+ *   Tomcat 기본 server.tomcat.max-connections(8192)를 넘는 연결은 accept 대기열에 머무니 필요하면 함께 올린다.
+ *   비동기 API 가 실행기 포화로 거절한 요청(503)은 errors 로 센다.
+ *
+ * 유저 ID 는 Zipfian 분포로 뽑아 일부 유저에 요청이 몰리는 실제 트래픽을 흉내낸다.
+ *
+ * 예) ./gradlew loadTest -Pargs="--mode=open --rate=500 --duration=30 --users=10000 --theta=0.99"
+ *     ./gradlew loadTest -Pargs="--mode=compare --concurrency=10000 --duration=60"
+ */
+public class PointLoadGenerator {
+
+    private final URI target;
+    private final String basePath;
+    private final long userOffset;
+    private final long users;
+    private final double chargeRatio;
+    private final double useRatio;
+    private final long amount;
+    private final ZipfianGenerator zipfian;
+    private final HttpClient httpClient;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final AtomicLong errors = new AtomicLong();
+
+    PointLoadGenerator(Map<String, String> options) {
+        this(options, 0);
+    }
+
+    PointLoadGenerator(Map<String, String> options, long userOffset) {
+        this.target = URI.create(options.getOrDefault("target", "http://localhost:8080"));
+        this.basePath = options.getOrDefault("base-path", "/point");
+        this.userOffset = userOffset;
+        this.users = Long.parseLong(options.getOrDefault("users", "10000"));
+        this.chargeRatio = Double.parseDouble(options.getOrDefault("charge-ratio", "0.3"));
+        this.useRatio = Double.parseDouble(options.getOrDefault("use-ratio", "0.2"));
+        this.amount = Long.parseLong(options.getOrDefault("amount", "100"));
+        this.zipfian = new ZipfianGenerator(users, Double.parseDouble(options.getOrDefault("theta", "0.99")));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        String mode = options.getOrDefault("mode", "closed");
+        if (mode.equals("compare")) {
+            compare(options, Integer.parseInt(options.getOrDefault("concurrency", "10000")), duration);
+            System.exit(0);
+        }
+        PointLoadGenerator generator = new PointLoadGenerator(options);
+
+        long startedNanos = System.nanoTime();
+        switch (mode) {
+            case "closed" -> generator.runClosedLoop(Integer.parseInt(options.getOrDefault("concurrency", "64")), duration);
+            case "open" -> generator.runOpenLoop(Double.parseDouble(options.getOrDefault("rate", "500")), duration);
+            default -> throw new IllegalArgumentException("알 수 없는 mode: " + mode);
+        }
+        generator.report(mode, System.nanoTime() - startedNanos);
+        System.exit(0);
+    }
+
+    /**
+     * 동기 API 와 비동기 API 에 같은 closed-loop 부하를 차례로 준다. 앞 실행의 잔액이 남지 않도록 유저 ID 대역을 나눈다.
+     */
+    static void compare(Map<String, String> options, int concurrency, Duration duration) throws InterruptedException {
+        long users = Long.parseLong(options.getOrDefault("users", "10000"));
+        String[] basePaths = {"/point", "/async/point"};
+        for (int i = 0; i < basePaths.length; i++) {
+            Map<String, String> run = new HashMap<>(options);
+            run.put("base-path", basePaths[i]);
+            PointLoadGenerator generator = new PointLoadGenerator(run, i * users);
+            long startedNanos = System.nanoTime();
+            generator.runClosedLoop(concurrency, duration);
+            generator.report("compare " + basePaths[i] + " concurrency=" + concurrency, System.nanoTime() - startedNanos);
+        }
+    }
+
+    void runClosedLoop(int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    long sentNanos = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(nextRequest(), HttpResponse.BodyHandlers.discarding());
+                        complete(sentNanos, response.statusCode());
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toSeconds() + 30, TimeUnit.SECONDS);
+    }
+
+    void runOpenLoop(double ratePerSecond, Duration duration) throws InterruptedException {
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long startNanos = System.nanoTime();
+        long total = (long) (ratePerSecond * duration.toSeconds());
+        Semaphore inflight = new Semaphore(Integer.MAX_VALUE);
+        for (long i = 0; i < total; i++) {
+            long scheduledNanos = startNanos + i * intervalNanos;
+            long waitNanos = scheduledNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            inflight.acquireUninterruptibly();
+            httpClient.sendAsync(nextRequest(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        if (ex != null) {
+                            errors.incrementAndGet();
+                        } else {
+                            complete(scheduledNanos, response.statusCode());
+                        }
+                        inflight.release();
+                    });
+        }
+        inflight.acquire(Integer.MAX_VALUE); // 남은 요청이 모두 끝날 때까지 대기
+    }
+
+    private void complete(long startNanos, int status) {
+        histogram.record((System.nanoTime() - startNanos) / 1_000);
+        // 잔액 부족(400)은 Zipfian 부하에서 정상적으로 생기는 응답이므로 오류로 세지 않음
+        if (status >= 500) {
+            errors.incrementAndGet();
+        }
+    }
+
+    private HttpRequest nextRequest() {
+        long userId = userOffset + zipfian.next() + 1;
+        double dice = ThreadLocalRandom.current().nextDouble();
+        if (dice < chargeRatio) {
+            return patch(userId, "charge");
+        }
+        if (dice < chargeRatio + useRatio) {
+            return patch(userId, "use");
+        }
+        return HttpRequest.newBuilder(target.resolve(basePath + "/" + userId)).GET().build();
+    }
+
+    private HttpRequest patch(long userId, String operation) {
+        return HttpRequest.newBuilder(target.resolve(basePath + "/" + userId + "/" + operation))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                .build();
+    }
+
+    private void report(String mode, long elapsedNanos) {
+        long count = histogram.count();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("mode=%s users=%d requests=%d errors=%d elapsed=%.1fs throughput=%.1f req/s%n",
+                mode, users, count, errors.get(), seconds, count / seconds);
+        System.out.println("percentile | latency(ms)");
+        for (double percentile : new double[]{50, 90, 99, 99.9, 100}) {
+            System.out.printf("%10s | %10.2f%n", percentile, histogram.percentile(percentile) / 1000.0);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
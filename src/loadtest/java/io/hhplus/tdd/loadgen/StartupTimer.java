@@ -0,0 +1,143 @@
+package io.hhplus.tdd.loadgen;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bootJar 를 별도 프로세스로 띄우고 첫 GET /point/{id} 가 응답할 때까지의 시간을 잰다.
+ * 같은 jar 를 JVM 옵션만 바꿔 돌리면 기본 기동, AOT/AppCDS 기동, 예열 여부를 비교할 수 있다.
+ *
+ * - first-response : 프로세스 시작부터 첫 200 응답까지 (연결 거부되는 동안 poll-millis 마다 재시도)
+ * - first-latency : 첫 200 응답을 받은 요청 하나의 지연
+ * - next p50/max : 바로 이어서 보낸 requests 개 요청의 지연. 예열이 안 된 경로가 얼마나 느린지 확인
+ *
+ * 예) ./gradlew startupTime -Pargs="--runs=5 --jvm-args=-XX:SharedArchiveFile=app.jsa,-Dspring.aot.enabled=true --workdir=build/fast-startup"
+ */
+public class StartupTimer {
+
+    private final String jar;
+    private final File workdir;
+    private final List<String> jvmArgs;
+    private final int port;
+    private final long userId;
+    private final int requests;
+    private final long pollMillis;
+    private final Duration timeout;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    StartupTimer(Map<String, String> options) {
+        this.jar = required(options, "jar");
+        this.workdir = new File(options.getOrDefault("workdir", "."));
+        String jvmArgs = options.getOrDefault("jvm-args", "");
+        this.jvmArgs = jvmArgs.isBlank() ? List.of() : Arrays.asList(jvmArgs.split(","));
+        this.port = Integer.parseInt(options.getOrDefault("port", "18080"));
+        this.userId = Long.parseLong(options.getOrDefault("user-id", "1"));
+        this.requests = Integer.parseInt(options.getOrDefault("requests", "100"));
+        this.pollMillis = Long.parseLong(options.getOrDefault("poll-millis", "5"));
+        this.timeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout", "60")));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        StartupTimer timer = new StartupTimer(options);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "3"));
+        long[] firstResponses = new long[runs];
+        System.out.println("run | first-response(ms) | first-latency(ms) | next p50(ms) | next max(ms)");
+        for (int run = 0; run < runs; run++) {
+            firstResponses[run] = timer.measure(run + 1);
+        }
+        Arrays.sort(firstResponses);
+        System.out.printf("median first-response: %dms (jvm-args=%s)%n", firstResponses[runs / 2], timer.jvmArgs);
+        System.exit(0);
+    }
+
+    /**
+     * @return 프로세스 시작부터 첫 200 응답까지 걸린 시간(ms)
+     */
+    long measure(int run) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", jar, "--server.port=" + port));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId)).GET().build();
+
+        long startedNanos = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workdir)
+                .redirectErrorStream(true)
+                .redirectOutput(new File(workdir, "startup-run-" + run + ".log"))
+                .start();
+        try {
+            long firstLatencyNanos = awaitFirstResponse(process, request, startedNanos);
+            long firstResponseMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (int i = 0; i < requests; i++) {
+                long sentNanos = System.nanoTime();
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                histogram.record((System.nanoTime() - sentNanos) / 1_000);
+            }
+            System.out.printf("%3d | %18d | %17.2f | %12.2f | %12.2f%n", run, firstResponseMillis,
+                    firstLatencyNanos / 1_000_000.0, histogram.percentile(50) / 1000.0, histogram.percentile(100) / 1000.0);
+            return firstResponseMillis;
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private long awaitFirstResponse(Process process, HttpRequest request, long startedNanos)
+            throws IOException, InterruptedException {
+        long deadline = startedNanos + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 기동 중에 종료되었습니다. exit: " + process.exitValue());
+            }
+            long sentNanos = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return System.nanoTime() - sentNanos;
+                }
+            } catch (IOException notListeningYet) {
+                // 아직 포트가 열리지 않음
+            }
+            TimeUnit.MILLISECONDS.sleep(pollMillis);
+        }
+        throw new IllegalStateException(timeout.toSeconds() + "초 안에 첫 응답을 받지 못했습니다.");
+    }
+
+    private static String required(Map<String, String> options, String key) {
+        String value = options.get(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("--" + key + " 가 필요합니다.");
+        }
+        return value;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.loadgen;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * [0, itemCount) 범위에서 Zipfian 분포로 값을 뽑는 생성기 (Gray et al., "Quickly Generating Billion-Record Synthetic Databases")
+ * theta 가 클수록 앞쪽 소수의 값에 요청이 몰린다.
+ */
+final class ZipfianGenerator {
+
+    private final long itemCount;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+
+    ZipfianGenerator(long itemCount, double theta) {
+        this.itemCount = itemCount;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetaN = zeta(itemCount, theta);
+        double zeta2 = zeta(2, theta);
+        this.eta = (1 - Math.pow(2.0 / itemCount, 1 - theta)) / (1 - zeta2 / zetaN);
+    }
+
+    long next() {
+        double u = ThreadLocalRandom.current().nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return 1;
+        }
+        return (long) (itemCount * Math.pow(eta * u - eta + 1, alpha));
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
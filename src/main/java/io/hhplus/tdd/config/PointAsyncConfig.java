@@ -0,0 +1,24 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PointAsyncConfig {
+
+    /**
+     * Table 호출은 블로킹이므로 요청 스레드가 아닌 크기가 제한된 별도 풀에서 실행
+     * 큐가 가득 차면 RejectedExecutionException 으로 빠르게 실패시킴
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor pointBlockingExecutor(PointAsyncProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("point-blocking-");
+        executor.initialize();
+        return executor;
+    }
+}
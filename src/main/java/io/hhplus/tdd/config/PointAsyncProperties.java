@@ -0,0 +1,22 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비동기 포인트 API 에서 블로킹 Table 호출을 실행할 스레드 풀 설정
+ * - max-pending-per-user : 한 유저에 대해 순서를 기다리는 충전/사용 작업 수 상한 (넘으면 429)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.async")
+public class PointAsyncProperties {
+
+    private int poolSize = 8;
+    private int queueCapacity = 1000;
+    private int maxPendingPerUser = 100;
+
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 잔액-내역 정합성 감사 설정
+ * - parallelism : 내역 집계에 쓰는 fork-join 스레드 수 (라이브 트래픽을 위해 코어 일부만 사용)
+ * - balance-lookup-concurrency : 잔액 조회를 동시에 수행할 스레드 수
+ * - time-budget-millis : 이 시간을 넘기면 검사를 멈추고 미완료로 보고
+ * - cron : 정기 실행 주기 ("-" 이면 비활성화)
+ * - ledger-max-buffered-entries : 원장이 원시 배열로 들고 있을 최근 내역 수 (넘치면 유저별 합계로 접음)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.audit")
+public class PointAuditProperties {
+
+    private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int balanceLookupConcurrency = 8;
+    private long timeBudgetMillis = 10 * 60 * 1000L;
+    private int maxReportedMismatches = 1000;
+    private String cron = "-";
+    private long ledgerMaxBufferedEntries = 4_000_000L;
+
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 포인트 변경 이벤트 스트림 설정
+ * - buffer-size : 링 버퍼 크기 (2의 거듭제곱으로 올림)
+ * - dispatch-interval-millis : 구독자에게 이벤트를 밀어주는 주기
+ * - max-batch-size : 한 주기에 구독자 한 명에게 보내는 최대 이벤트 수
+ * - sender-threads : 구독자에게 실제로 전송하는 스레드 수
+ * - send-timeout-millis : 한 번의 전송 작업이 이보다 오래 걸리는 구독자는 제거
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.events")
+public class PointEventProperties {
+
+    private int bufferSize = 4096;
+    private long dispatchIntervalMillis = 50;
+    private int maxBatchSize = 256;
+    private long emitterTimeoutMillis = 30 * 60 * 1000L;
+    private int senderThreads = 4;
+    private long sendTimeoutMillis = 5000;
+
+}
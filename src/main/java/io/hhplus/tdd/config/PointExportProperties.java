@@ -0,0 +1,22 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 잔액 스냅샷 내보내기 설정
+ * - segment-size : gzip 멤버 하나에 담는 유저 수
+ * - parallelism : 동시에 압축하는 세그먼트 수 (응답에 쓰기 전 메모리에 머무는 세그먼트도 최대 2배까지)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.export")
+public class PointExportProperties {
+
+    private int segmentSize = 10_000;
+    private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 충전/사용 요청이 몰리는 유저(hot key) 감지 설정
+ * - sketch-width / sketch-depth : count-min sketch 크기 (width 는 2의 거듭제곱으로 올림)
+ * - decay-interval-millis : 이 주기마다 모든 카운트를 절반으로 줄임 (정상 상태 추정치는 주기당 요청 수의 약 2배)
+ * - hot-threshold / cool-threshold : 추정치가 hot 이상이면 hot 으로 전환, cool 미만으로 떨어지면 해제
+ * - max-hot-keys : 동시에 hot 으로 다룰 최대 유저 수 (넘치면 가장 덜 몰린 유저를 해제)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.hot-key")
+public class PointHotKeyProperties {
+
+    private boolean enabled = false;
+    private int sketchWidth = 2048;
+    private int sketchDepth = 4;
+    private long decayIntervalMillis = 1000;
+    private long hotThreshold = 500;
+    private long coolThreshold = 100;
+    private int maxHotKeys = 64;
+
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PointIngestConfig {
+
+    /**
+     * 적재 레인은 요청이 끝날 때까지 스레드를 점유하므로 동시 적재 수만큼의 레인 스레드를 잡아둠
+     * 동시 적재 수는 PointIngestService 가 제한하고, 대기열은 직전 적재의 스레드가 반납되는 동안만 쓰임
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor pointIngestExecutor(PointIngestProperties properties) {
+        int poolSize = properties.getParallelism() * properties.getMaxConcurrentIngests();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize);
+        executor.setThreadNamePrefix("point-ingest-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * NDJSON 일괄 적재 설정
+ * - parallelism : 동시에 처리하는 레인 수 (같은 유저는 항상 같은 레인에서 순서대로 처리)
+ * - lane-queue-capacity : 레인별 대기열 크기. 가득 차면 요청 본문 읽기를 멈춰 메모리를 일정하게 유지
+ * - progress-interval : 진행 상황을 응답에 쓰는 줄 간격
+ * - max-buffered-errors : 아직 응답에 쓰지 않은 오류를 담아둘 최대 개수 (넘치면 개수만 셈)
+ * - max-concurrent-ingests : 동시에 처리하는 적재 요청 수. 레인 스레드가 모자라면 503
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.ingest")
+public class PointIngestProperties {
+
+    private int parallelism = 8;
+    private int laneQueueCapacity = 1024;
+    private int progressInterval = 10_000;
+    private int maxLineLength = 4096;
+    private int maxBufferedErrors = 1000;
+    private int maxConcurrentIngests = 2;
+
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.leaderboard")
+public class PointLeaderboardProperties {
+
+    private int defaultLimit = 10;
+    private int maxLimit = 100;
+
+}
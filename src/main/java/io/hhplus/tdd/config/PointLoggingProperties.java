@@ -0,0 +1,24 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 컨트롤러 요청 로그 샘플링 비율 (0.0 ~ 1.0)
+ * 키는 point, histories, charge, use. 지정하지 않은 엔드포인트는 모두 기록한다.
+ * 실패한 요청은 비율과 관계없이 항상 기록한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.logging")
+public class PointLoggingProperties {
+
+    private Map<String, Double> sampleRates = new HashMap<>();
+
+}
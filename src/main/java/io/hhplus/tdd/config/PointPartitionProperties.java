@@ -0,0 +1,29 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다중 인스턴스 파티셔닝 설정
+ * - self : 현재 인스턴스의 주소 (nodes 중 하나와 같아야 함)
+ * - nodes : 링에 참여하는 모든 인스턴스 주소
+ * - virtual-nodes : 인스턴스 하나당 링에 배치할 가상 노드 수
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.partition")
+public class PointPartitionProperties {
+
+    private boolean enabled;
+    private String self;
+    private List<String> nodes = new ArrayList<>();
+    private int virtualNodes = 128;
+    private long forwardTimeoutMillis = 3000;
+
+}
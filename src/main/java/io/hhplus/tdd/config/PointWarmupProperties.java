@@ -0,0 +1,25 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기동 직후 자기 자신에게 HTTP 요청을 보내 PointController 주요 경로를 미리 실행해 JIT 를 데우는 설정
+ * - iterations : 충전/사용/조회를 반복할 횟수. C2 컴파일 임계치(약 1만 회 호출)를 넘도록 잡는다.
+ * - user-id : 예열 요청에 사용할 전용 유저 ID. 실제 유저와 겹치지 않도록 음수를 쓴다.
+ * - history-read-interval : 내역 조회를 몇 회마다 섞을지. 예열 중 쌓인 내역을 매번 훑지 않기 위함
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.warmup")
+public class PointWarmupProperties {
+
+    private boolean enabled;
+    private int iterations = 20_000;
+    private long userId = -1L;
+    private int historyReadInterval = 100;
+
+}
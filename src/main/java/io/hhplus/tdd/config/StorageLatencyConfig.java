@@ -0,0 +1,36 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.latency.LatencyModelPointHistoryTable;
+import io.hhplus.tdd.database.latency.LatencyModelUserPointTable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * point.storage.latency.enabled 이면 기본 Table 대신 지연 모델 stand-in 을 주입
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "point.storage.latency", name = "enabled", havingValue = "true")
+public class StorageLatencyConfig {
+
+    @Bean
+    @Primary
+    public UserPointTable latencyModelUserPointTable(StorageLatencyProperties properties) {
+        return new LatencyModelUserPointTable(
+                properties.getSelectPoint().toModel(),
+                properties.getUpdatePoint().toModel());
+    }
+
+    // 계층형 내역 저장소가 켜져 있으면 그쪽이 같은 지연 설정으로 PointHistoryTable 을 대신함
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "point.history.tiered", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public PointHistoryTable latencyModelPointHistoryTable(StorageLatencyProperties properties) {
+        return new LatencyModelPointHistoryTable(
+                properties.getInsertHistory().toModel(),
+                properties.getSelectHistories().toModel());
+    }
+}
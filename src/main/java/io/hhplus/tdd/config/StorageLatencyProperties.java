@@ -0,0 +1,68 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.database.latency.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Table stand-in 의 연산별 지연 모델 설정
+ * 기본값은 기존 Table 의 throttle 과 같은 균등 분포
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.storage.latency")
+public class StorageLatencyProperties {
+
+    private boolean enabled;
+    private Spec selectPoint = Spec.uniform(200);
+    private Spec updatePoint = Spec.uniform(300);
+    private Spec insertHistory = Spec.uniform(300);
+    private Spec selectHistories = Spec.uniform(0);
+
+    public enum Type {
+        FIXED, UNIFORM, LOG_NORMAL, BIMODAL
+    }
+
+    /**
+     * - millis : FIXED 는 고정값, UNIFORM 은 최대값, LOG_NORMAL/BIMODAL 은 (빠른 쪽) 중앙값
+     * - slow-millis, slow-ratio : BIMODAL 의 느린 쪽 중앙값과 비율
+     * - fault-rate : 0 보다 크면 해당 확률로 StorageFaultException 발생
+     */
+    @Getter
+    @Setter
+    public static class Spec {
+
+        private Type type = Type.UNIFORM;
+        private double millis;
+        private double sigma = 0.5;
+        private double slowMillis;
+        private double slowRatio;
+        private double faultRate;
+
+        static Spec uniform(double maxMillis) {
+            Spec spec = new Spec();
+            spec.setMillis(maxMillis);
+            return spec;
+        }
+
+        public LatencyModel toModel() {
+            LatencyModel model = switch (type) {
+                case FIXED -> new FixedLatency(micros(millis));
+                case UNIFORM -> new UniformLatency(micros(millis));
+                case LOG_NORMAL -> new LogNormalLatency(micros(millis), sigma);
+                case BIMODAL -> new BimodalLatency(
+                        new LogNormalLatency(micros(millis), sigma),
+                        new LogNormalLatency(micros(slowMillis), sigma),
+                        slowRatio);
+            };
+            return faultRate > 0 ? new FaultInjectingLatency(model, faultRate) : model;
+        }
+
+        private static long micros(double millis) {
+            return (long) (millis * 1000);
+        }
+    }
+}
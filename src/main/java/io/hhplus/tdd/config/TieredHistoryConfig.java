@@ -0,0 +1,71 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.tiered.TieredPointHistoryTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * point.history.tiered.enabled 이면 기본 PointHistoryTable 대신 계층형 stand-in 을 주입
+ * 내역 저장/조회 지연은 point.storage.latency.insert-history, select-histories 설정을 따른다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "point.history.tiered", name = "enabled", havingValue = "true")
+public class TieredHistoryConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(TieredHistoryConfig.class);
+    private static final String INSTANCE_PREFIX = "instance-";
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public PointHistoryTable tieredPointHistoryTable(
+            TieredHistoryProperties properties,
+            StorageLatencyProperties latencyProperties
+    ) throws IOException {
+        if (properties.getHotCapacity() <= 0 || properties.getHotCapacity() > 50_000_000) {
+            throw new IllegalArgumentException("point.history.tiered.hot-capacity 는 1 ~ 50,000,000 이어야 합니다.");
+        }
+        // 인스턴스마다 별도 디렉터리를 써서 이전 실행의 세그먼트와 섞이지 않도록 함
+        Path base = Path.of(properties.getDirectory());
+        deleteStaleInstanceDirectories(base);
+        Path directory = base.resolve(INSTANCE_PREFIX + ProcessHandle.current().pid());
+        return new TieredPointHistoryTable(
+                latencyProperties.getInsertHistory().toModel(),
+                latencyProperties.getSelectHistories().toModel(),
+                directory,
+                properties.getHotCapacity());
+    }
+
+    /**
+     * 정상 종료하지 못한(close 가 호출되지 않은) 이전 실행의 디렉터리 중 프로세스가 더 이상 없는 것을 삭제
+     */
+    private static void deleteStaleInstanceDirectories(Path base) throws IOException {
+        if (!Files.isDirectory(base)) {
+            return;
+        }
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(base, INSTANCE_PREFIX + "*")) {
+            for (Path directory : directories) {
+                long pid;
+                try {
+                    pid = Long.parseLong(directory.getFileName().toString().substring(INSTANCE_PREFIX.length()));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false)) {
+                    continue;
+                }
+                log.info("이전 실행의 내역 세그먼트 디렉터리 삭제 - path: {}", directory);
+                TieredPointHistoryTable.deleteDirectory(directory);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 계층형 내역 저장소 설정
+ * - hot-capacity : 힙에 두는 최근 내역 수. 넘치면 세그먼트 파일로 봉인 (세그먼트 하나가 2GB 를 넘지 않도록 5천만 이하)
+ * - directory : 세그먼트 파일을 둘 디렉터리
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "point.history.tiered")
+public class TieredHistoryProperties {
+
+    private boolean enabled;
+    private int hotCapacity = 100_000;
+    private String directory = System.getProperty("java.io.tmpdir") + "/hhplus-history";
+
+}
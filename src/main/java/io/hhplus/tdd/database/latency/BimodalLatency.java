@@ -0,0 +1,16 @@
+package io.hhplus.tdd.database.latency;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 히트/미스처럼 빠른 응답과 느린 응답이 섞인 분포
+ */
+public record BimodalLatency(LatencyModel fast, LatencyModel slow, double slowRatio) implements LatencyModel {
+
+    @Override
+    public long nextDelayMicros() {
+        return ThreadLocalRandom.current().nextDouble() < slowRatio
+                ? slow.nextDelayMicros()
+                : fast.nextDelayMicros();
+    }
+}
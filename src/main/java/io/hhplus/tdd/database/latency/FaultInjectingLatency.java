@@ -0,0 +1,24 @@
+package io.hhplus.tdd.database.latency;
+
+import io.hhplus.tdd.error.StorageFaultException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * delegate 의 지연을 적용한 뒤 faultRate 확률로 스토리지 장애를 발생시킴
+ */
+public record FaultInjectingLatency(LatencyModel delegate, double faultRate) implements LatencyModel {
+
+    @Override
+    public long nextDelayMicros() {
+        return delegate.nextDelayMicros();
+    }
+
+    @Override
+    public void await() {
+        LatencyModel.super.await();
+        if (ThreadLocalRandom.current().nextDouble() < faultRate) {
+            throw new StorageFaultException("스토리지 장애가 발생했습니다.");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package io.hhplus.tdd.database.latency;
+
+public record FixedLatency(long micros) implements LatencyModel {
+
+    @Override
+    public long nextDelayMicros() {
+        return micros;
+    }
+}
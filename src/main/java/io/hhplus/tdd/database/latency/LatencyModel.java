@@ -0,0 +1,29 @@
+package io.hhplus.tdd.database.latency;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table stand-in 에서 호출 한 번에 걸릴 지연을 만들어내는 모델
+ */
+public interface LatencyModel {
+
+    /**
+     * @return 이번 호출에 적용할 지연 (마이크로초)
+     */
+    long nextDelayMicros();
+
+    /**
+     * 지연만큼 대기. 장애 모델은 여기서 예외를 던질 수 있다.
+     */
+    default void await() {
+        long micros = nextDelayMicros();
+        if (micros <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MICROSECONDS.sleep(micros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
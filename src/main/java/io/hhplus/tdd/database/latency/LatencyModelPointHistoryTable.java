@@ -0,0 +1,43 @@
+package io.hhplus.tdd.database.latency;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지연 모델을 주입할 수 있는 PointHistoryTable stand-in
+ * PointHistoryTable 은 변경하지 않고 공개 API 를 그대로 재정의한다.
+ */
+public class LatencyModelPointHistoryTable extends PointHistoryTable {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private final LatencyModel insertLatency;
+    private final LatencyModel selectLatency;
+    private long cursor = 1;
+
+    public LatencyModelPointHistoryTable(LatencyModel insertLatency, LatencyModel selectLatency) {
+        this.insertLatency = insertLatency;
+        this.selectLatency = selectLatency;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        insertLatency.await();
+        synchronized (table) {
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        selectLatency.await();
+        synchronized (table) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
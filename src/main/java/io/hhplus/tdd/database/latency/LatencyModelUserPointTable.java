@@ -0,0 +1,36 @@
+package io.hhplus.tdd.database.latency;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.model.UserPoint;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지연 모델을 주입할 수 있는 UserPointTable stand-in
+ * UserPointTable 은 변경하지 않고 공개 API 를 그대로 재정의한다.
+ */
+public class LatencyModelUserPointTable extends UserPointTable {
+
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final LatencyModel selectLatency;
+    private final LatencyModel updateLatency;
+
+    public LatencyModelUserPointTable(LatencyModel selectLatency, LatencyModel updateLatency) {
+        this.selectLatency = selectLatency;
+        this.updateLatency = updateLatency;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        selectLatency.await();
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        updateLatency.await();
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
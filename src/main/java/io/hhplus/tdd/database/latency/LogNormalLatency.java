@@ -0,0 +1,15 @@
+package io.hhplus.tdd.database.latency;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 중앙값과 sigma 로 지정하는 로그 정규 분포. 대부분 빠르고 긴 꼬리가 있는 실제 스토리지 지연에 가깝다.
+ */
+public record LogNormalLatency(long medianMicros, double sigma) implements LatencyModel {
+
+    @Override
+    public long nextDelayMicros() {
+        double gaussian = ThreadLocalRandom.current().nextGaussian();
+        return (long) (medianMicros * Math.exp(sigma * gaussian));
+    }
+}
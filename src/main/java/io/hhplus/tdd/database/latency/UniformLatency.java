@@ -0,0 +1,14 @@
+package io.hhplus.tdd.database.latency;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 기존 Table 의 throttle 과 같은 [0, maxMicros) 균등 분포
+ */
+public record UniformLatency(long maxMicros) implements LatencyModel {
+
+    @Override
+    public long nextDelayMicros() {
+        return maxMicros <= 0 ? 0 : ThreadLocalRandom.current().nextLong(maxMicros);
+    }
+}
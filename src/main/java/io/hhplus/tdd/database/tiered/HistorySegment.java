@@ -0,0 +1,169 @@
+package io.hhplus.tdd.database.tiered;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 봉인된 내역을 (userId, id) 순으로 정렬해 담은 불변 세그먼트 파일
+ *
+ * 레코드는 고정 길이(40 bytes: id, userId, amount, type, updateMillis)이고 파일 전체를 메모리 매핑해 읽는다.
+ * 힙에는 INDEX_INTERVAL 레코드마다 userId 하나를 담은 희소 인덱스만 올라간다.
+ * 매핑은 GC 를 기다리지 않고 unmap 으로 바로 해제한다. 해제 뒤에 읽으면 JVM 이 죽으므로 호출하는 쪽이 읽기를 막아야 한다.
+ */
+final class HistorySegment {
+
+    static final int RECORD_SIZE = 5 * Long.BYTES;
+    private static final int INDEX_INTERVAL = 128;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // unmap 을 못 하면 매핑은 GC 때 해제된다
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int recordCount;
+    private final long[] sparseIndex;
+    private final long minUserId;
+    private final long maxUserId;
+
+    private HistorySegment(Path path, MappedByteBuffer buffer, int recordCount, long[] sparseIndex) {
+        this.path = path;
+        this.buffer = buffer;
+        this.recordCount = recordCount;
+        this.sparseIndex = sparseIndex;
+        this.minUserId = userIdAt(0);
+        this.maxUserId = userIdAt(recordCount - 1);
+    }
+
+    /**
+     * @param rowsByUser userId 오름차순, 유저별 내역은 id 오름차순
+     */
+    static HistorySegment write(Path path, SortedMap<Long, List<PointHistory>> rowsByUser, int recordCount) throws IOException {
+        long[] sparseIndex = new long[(recordCount + INDEX_INTERVAL - 1) / INDEX_INTERVAL];
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE * INDEX_INTERVAL);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+            int position = 0;
+            for (Map.Entry<Long, List<PointHistory>> entry : rowsByUser.entrySet()) {
+                for (PointHistory history : entry.getValue()) {
+                    if (position % INDEX_INTERVAL == 0) {
+                        sparseIndex[position / INDEX_INTERVAL] = history.userId();
+                    }
+                    record.putLong(history.id())
+                            .putLong(history.userId())
+                            .putLong(history.amount())
+                            .putLong(history.type().ordinal())
+                            .putLong(history.updateMillis());
+                    if (!record.hasRemaining()) {
+                        writeFully(channel, record);
+                    }
+                    position++;
+                }
+            }
+            writeFully(channel, record);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) recordCount * RECORD_SIZE);
+            return new HistorySegment(path, buffer, recordCount, sparseIndex);
+        }
+    }
+
+    /**
+     * 해당 유저의 내역을 id 오름차순으로 out 에 추가
+     */
+    void collect(long userId, List<PointHistory> out) {
+        if (userId < minUserId || userId > maxUserId) {
+            return;
+        }
+        // userId 보다 작은 마지막 인덱스 블록부터 읽어야 블록 경계에 걸친 내역도 놓치지 않음
+        int block = Arrays.binarySearch(sparseIndex, userId);
+        block = block >= 0 ? firstBlockOf(block, userId) : Math.max(0, -block - 2);
+        for (int position = block * INDEX_INTERVAL; position < recordCount; position++) {
+            long current = userIdAt(position);
+            if (current > userId) {
+                return;
+            }
+            if (current == userId) {
+                out.add(read(position));
+            }
+        }
+    }
+
+    int recordCount() {
+        return recordCount;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * 매핑을 해제. 이후 collect 를 호출하면 안 된다.
+     */
+    void unmap() {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // GC 때 해제되도록 둠
+        }
+    }
+
+    private int firstBlockOf(int block, long userId) {
+        while (block > 0 && sparseIndex[block - 1] == userId) {
+            block--;
+        }
+        // 직전 블록 끝부분에 같은 유저가 있을 수 있음
+        return Math.max(0, block - 1);
+    }
+
+    private long userIdAt(int position) {
+        return buffer.getLong(position * RECORD_SIZE + Long.BYTES);
+    }
+
+    private PointHistory read(int position) {
+        int offset = position * RECORD_SIZE;
+        return new PointHistory(
+                buffer.getLong(offset),
+                buffer.getLong(offset + Long.BYTES),
+                buffer.getLong(offset + 2 * Long.BYTES),
+                TYPES[(int) buffer.getLong(offset + 3 * Long.BYTES)],
+                buffer.getLong(offset + 4 * Long.BYTES));
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer record) throws IOException {
+        record.flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        record.clear();
+    }
+}
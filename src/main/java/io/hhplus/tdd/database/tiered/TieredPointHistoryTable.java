@@ -0,0 +1,210 @@
+package io.hhplus.tdd.database.tiered;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.latency.LatencyModel;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 최근 내역은 힙(hot), 오래된 내역은 메모리 매핑된 세그먼트 파일(cold)에 두는 PointHistoryTable stand-in
+ * PointHistoryTable 은 변경하지 않고 공개 API 를 그대로 재정의한다.
+ *
+ * hot 이 hotCapacity 에 닿으면 통째로 봉인 대기열로 넘기고, 백그라운드 스레드가 세그먼트 파일로 쓴다.
+ * 조회는 세그먼트(오래된 순) → 봉인 대기 → hot 순으로 이어 붙이므로 원래 Table 과 같이 id 오름차순이다.
+ * 힙에는 hot, 봉인 대기 중인 묶음, 세그먼트별 희소 인덱스만 남는다.
+ *
+ * close 는 세그먼트를 읽는 중인 조회가 끝나길 기다린 뒤 매핑을 해제하고 directory 를 통째로 지운다.
+ */
+public class TieredPointHistoryTable extends PointHistoryTable implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TieredPointHistoryTable.class);
+
+    private final LatencyModel insertLatency;
+    private final LatencyModel selectLatency;
+    private final Path directory;
+    private final int hotCapacity;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 세그먼트 매핑을 읽는 동안 read, 매핑을 해제할 때 write. 조회끼리, 조회와 insert 는 서로 막지 않음
+    private final ReentrantReadWriteLock mappingLock = new ReentrantReadWriteLock();
+    private final ExecutorService sealer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "history-sealer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 아래 필드는 lock 으로 보호
+    private TreeMap<Long, List<PointHistory>> hot = new TreeMap<>();
+    private int hotCount;
+    private long cursor = 1;
+    private int segmentSequence;
+    private List<TreeMap<Long, List<PointHistory>>> sealing = List.of();
+    private List<HistorySegment> segments = List.of();
+    private boolean closed;
+
+    public TieredPointHistoryTable(LatencyModel insertLatency, LatencyModel selectLatency, Path directory, int hotCapacity)
+            throws IOException {
+        this.insertLatency = insertLatency;
+        this.selectLatency = selectLatency;
+        this.directory = Files.createDirectories(directory);
+        this.hotCapacity = hotCapacity;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        insertLatency.await();
+        lock.writeLock().lock();
+        try {
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            hot.computeIfAbsent(userId, id -> new ArrayList<>()).add(pointHistory);
+            if (++hotCount >= hotCapacity) {
+                handOff();
+            }
+            return pointHistory;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        selectLatency.await();
+        List<HistorySegment> segmentsView;
+        List<TreeMap<Long, List<PointHistory>>> sealingView;
+        List<PointHistory> hotRows;
+        lock.readLock().lock();
+        try {
+            segmentsView = segments;
+            sealingView = sealing;
+            hotRows = List.copyOf(hot.getOrDefault(userId, List.of()));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<PointHistory> result = new ArrayList<>();
+        mappingLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("이미 닫힌 내역 저장소입니다.");
+            }
+            for (HistorySegment segment : segmentsView) {
+                segment.collect(userId, result);
+            }
+        } finally {
+            mappingLock.readLock().unlock();
+        }
+        for (TreeMap<Long, List<PointHistory>> batch : sealingView) {
+            result.addAll(batch.getOrDefault(userId, List.of()));
+        }
+        result.addAll(hotRows);
+        return Collections.unmodifiableList(result);
+    }
+
+    public int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        sealer.shutdownNow();
+        try {
+            if (!sealer.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("내역 세그먼트 봉인 스레드가 종료되지 않았습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<HistorySegment> closing;
+        mappingLock.writeLock().lock();
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closing = segments;
+            segments = List.of();
+            closing.forEach(HistorySegment::unmap);
+        } finally {
+            lock.writeLock().unlock();
+            mappingLock.writeLock().unlock();
+        }
+        deleteDirectory(directory);
+    }
+
+    /**
+     * 디렉터리와 그 안의 세그먼트 파일(봉인 중 끊긴 파일 포함)을 삭제
+     */
+    public static void deleteDirectory(Path directory) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (NoSuchFileException ignored) {
+        } catch (IOException e) {
+            log.warn("세그먼트 디렉터리 삭제 실패 - path: {}", directory, e);
+        }
+    }
+
+    // write lock 안에서 호출
+    private void handOff() {
+        TreeMap<Long, List<PointHistory>> batch = hot;
+        int count = hotCount;
+        hot = new TreeMap<>();
+        hotCount = 0;
+        sealing = append(sealing, batch);
+        Path path = directory.resolve("history-" + (++segmentSequence) + ".seg");
+        sealer.execute(() -> seal(path, batch, count));
+    }
+
+    private void seal(Path path, TreeMap<Long, List<PointHistory>> batch, int count) {
+        HistorySegment segment;
+        try {
+            segment = HistorySegment.write(path, batch, count);
+        } catch (IOException e) {
+            // 봉인에 실패한 묶음은 봉인 대기열에 남아 계속 조회된다
+            log.error("내역 세그먼트 봉인 실패 - path: {}", path, e);
+            throw new UncheckedIOException(e);
+        }
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                segment.unmap();
+                return;
+            }
+            segments = append(segments, segment);
+            List<TreeMap<Long, List<PointHistory>>> remaining = new ArrayList<>(sealing);
+            remaining.removeIf(sealed -> sealed == batch);
+            sealing = List.copyOf(remaining);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("내역 세그먼트 봉인 - path: {}, records: {}", path, count);
+    }
+
+    private static <T> List<T> append(List<T> list, T element) {
+        List<T> appended = new ArrayList<>(list.size() + 1);
+        appended.addAll(list);
+        appended.add(element);
+        return List.copyOf(appended);
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
 
@@ -33,6 +35,30 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
                 .body(new ErrorResponse("422", message));
     }
 
+    @ExceptionHandler(StorageFaultException.class)
+    public ResponseEntity<ErrorResponse> handleStorageFault(StorageFaultException ex) {
+        String message = ex.getMessage();
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse("503", message));
+    }
+
+    @ExceptionHandler(TooManyPendingRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyPending(TooManyPendingRequestsException ex) {
+        String message = ex.getMessage();
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ErrorResponse("429", message));
+    }
+
+    // 블로킹 풀 큐가 가득 찬 경우. 잠시 후 재시도하면 되는 과부하 상태
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse("503", "요청이 많아 지금은 처리할 수 없습니다."));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity
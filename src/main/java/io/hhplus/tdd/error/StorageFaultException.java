@@ -0,0 +1,8 @@
+package io.hhplus.tdd.error;
+
+public class StorageFaultException extends RuntimeException {
+
+    public StorageFaultException(String message) {
+        super(message);
+    }
+}
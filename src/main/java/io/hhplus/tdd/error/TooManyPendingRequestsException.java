@@ -0,0 +1,8 @@
+package io.hhplus.tdd.error;
+
+public class TooManyPendingRequestsException extends RuntimeException {
+
+    public TooManyPendingRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.model.ConditionalGetStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/point")
+public class ConditionalGetController {
+
+    private final ConditionalGetTracker conditionalGetTracker;
+
+    @GetMapping("conditional-stats")
+    public List<ConditionalGetStats> stats() {
+        return conditionalGetTracker.stats();
+    }
+}
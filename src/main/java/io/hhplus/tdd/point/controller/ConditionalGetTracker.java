@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.controller.HotPathLogger.Endpoint;
+import io.hhplus.tdd.point.model.ConditionalGetStats;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 유저별 변경 버전으로 ETag 를 만들고 If-None-Match 를 비교해 304 여부를 정함
+ * 엔드포인트별 요청 수와 304 응답 수를 함께 집계한다.
+ */
+@Component
+public class ConditionalGetTracker {
+
+    private final LongAdder[] requests = adders();
+    private final LongAdder[] conditionalRequests = adders();
+    private final LongAdder[] notModified = adders();
+
+    /**
+     * 재시작 후 같은 버전 번호가 다시 쓰여도 이전 ETag 와 겹치지 않도록 epoch 를 함께 넣음
+     */
+    public String etag(long versionEpoch, long version) {
+        return new StringBuilder(32).append('"')
+                .append(Long.toString(versionEpoch, 36)).append('-').append(version)
+                .append('"').toString();
+    }
+
+    /**
+     * 요청마다 한 번 호출. ifNoneMatch 가 etag 와 일치하면 true
+     */
+    public boolean notModified(Endpoint endpoint, String ifNoneMatch, String etag) {
+        requests[endpoint.ordinal()].increment();
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        conditionalRequests[endpoint.ordinal()].increment();
+        boolean matched = matches(ifNoneMatch, etag);
+        if (matched) {
+            notModified[endpoint.ordinal()].increment();
+        }
+        return matched;
+    }
+
+    public List<ConditionalGetStats> stats() {
+        List<ConditionalGetStats> stats = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            long total = requests[endpoint.ordinal()].sum();
+            if (total == 0) {
+                continue;
+            }
+            long conditional = conditionalRequests[endpoint.ordinal()].sum();
+            long hits = notModified[endpoint.ordinal()].sum();
+            stats.add(new ConditionalGetStats(endpoint.name(), total, conditional, hits,
+                    conditional == 0 ? 0 : (double) hits / conditional));
+        }
+        return stats;
+    }
+
+    // If-None-Match 는 약한 비교를 쓰므로 W/ 접두사는 무시. 목록과 * 도 허용
+    static boolean matches(String ifNoneMatch, String etag) {
+        int length = ifNoneMatch.length();
+        int start = 0;
+        while (start < length) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int from = start;
+            int to = end;
+            while (from < to && Character.isWhitespace(ifNoneMatch.charAt(from))) {
+                from++;
+            }
+            while (to > from && Character.isWhitespace(ifNoneMatch.charAt(to - 1))) {
+                to--;
+            }
+            if (ifNoneMatch.startsWith("W/", from)) {
+                from += 2;
+            }
+            if (to - from == 1 && ifNoneMatch.charAt(from) == '*') {
+                return true;
+            }
+            if (to - from == etag.length() && ifNoneMatch.regionMatches(from, etag, 0, etag.length())) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[Endpoint.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
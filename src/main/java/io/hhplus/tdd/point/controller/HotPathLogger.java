@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.config.PointLoggingProperties;
+import io.hhplus.tdd.point.model.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 컨트롤러 요청 로그를 엔드포인트별 비율로 샘플링
+ * 샘플링되지 않은 요청은 인자 박싱이나 varargs 배열 없이 바로 반환하고,
+ * 샘플링된 요청은 스레드별로 재사용하는 StringBuilder 에 메시지를 만든다.
+ */
+@Component
+public class HotPathLogger {
+
+    private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    public enum Endpoint {
+        POINT("GET /point/", "", "포인트 조회 요청", "포인트 조회 완료"),
+        HISTORIES("GET /point/", "/histories", "포인트 히스토리 조회 요청", "포인트 히스토리 조회 완료"),
+        CHARGE("PATCH /point/", "/charge", "포인트 충전 요청", "충전 완료"),
+        USE("PATCH /point/", "/use", "포인트 사용 요청", "사용 완료");
+
+        private final String pathPrefix;
+        private final String pathSuffix;
+        private final String requestMessage;
+        private final String completeMessage;
+
+        Endpoint(String pathPrefix, String pathSuffix, String requestMessage, String completeMessage) {
+            this.pathPrefix = pathPrefix;
+            this.pathSuffix = pathSuffix;
+            this.requestMessage = requestMessage;
+            this.completeMessage = completeMessage;
+        }
+    }
+
+    private final double[] sampleRates = new double[Endpoint.values().length];
+
+    public HotPathLogger(PointLoggingProperties properties) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            sampleRates[endpoint.ordinal()] = properties.getSampleRates()
+                    .getOrDefault(endpoint.name().toLowerCase(Locale.ROOT), 1.0);
+        }
+    }
+
+    /**
+     * 요청마다 한 번 호출해 이번 요청을 기록할지 정함
+     */
+    public boolean sample(Endpoint endpoint) {
+        double rate = sampleRates[endpoint.ordinal()];
+        return rate >= 1.0 || (rate > 0 && log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * 요청마다 한 번 호출. 샘플링되면 요청 로그를 남기고 true 를 반환하므로 완료 로그도 같은 값으로 판단한다.
+     */
+    public boolean begin(Endpoint endpoint, long userId, long amount) {
+        boolean sampled = sample(endpoint);
+        if (sampled) {
+            request(endpoint, userId, amount);
+        }
+        return sampled;
+    }
+
+    public void request(Endpoint endpoint, long userId, long amount) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        StringBuilder buffer = path(endpoint, userId).append(endpoint.requestMessage);
+        if (amount != 0) {
+            buffer.append(" - amount: ").append(amount);
+        }
+        log.info(buffer.toString());
+    }
+
+    public void completed(Endpoint endpoint, UserPoint userPoint) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        log.info(path(endpoint, userPoint.id())
+                .append(endpoint.completeMessage)
+                .append(" - userId: ").append(userPoint.id())
+                .append(", 잔액: ").append(userPoint.point())
+                .toString());
+    }
+
+    public void completed(Endpoint endpoint, long userId, int count) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        log.info(path(endpoint, userId).append(endpoint.completeMessage).append(" - 개수: ").append(count).toString());
+    }
+
+    public void notModified(Endpoint endpoint, long userId) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        log.info(path(endpoint, userId).append("변경 없음 (304)").toString());
+    }
+
+    /**
+     * 실패한 요청은 샘플링과 관계없이 항상 기록
+     */
+    public void failed(Endpoint endpoint, long userId, long amount, RuntimeException e) {
+        log.warn(path(endpoint, userId)
+                .append("요청 실패 - amount: ").append(amount)
+                .append(", error: ").append(e.getClass().getSimpleName())
+                .append(", message: ").append(e.getMessage())
+                .toString());
+    }
+
+    private StringBuilder path(Endpoint endpoint, long userId) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        return buffer.append('[').append(endpoint.pathPrefix).append(userId).append(endpoint.pathSuffix).append("] ");
+    }
+}
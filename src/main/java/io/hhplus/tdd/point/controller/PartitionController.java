@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.service.PointPartitionService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/partition")
+@ConditionalOnProperty(prefix = "point.partition", name = "enabled", havingValue = "true")
+public class PartitionController {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionController.class);
+    private final PointPartitionService partitionService;
+
+    @GetMapping("nodes")
+    public List<String> nodes() {
+        return partitionService.nodes();
+    }
+
+    @GetMapping("owner/{id}")
+    public String owner(@PathVariable long id) {
+        return partitionService.ownerOf(id);
+    }
+
+    @PutMapping("nodes")
+    public List<String> rebalance(@RequestBody List<String> nodes) {
+        log.info("[PUT /partition/nodes] 링 멤버 변경 요청 - nodes: {}", nodes);
+        partitionService.rebalance(nodes);
+        return partitionService.nodes();
+    }
+}
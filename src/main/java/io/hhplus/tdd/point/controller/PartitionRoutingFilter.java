@@ -0,0 +1,142 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.config.PointPartitionProperties;
+import io.hhplus.tdd.point.service.PointPartitionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 다른 인스턴스가 소유한 유저의 요청을 소유자에게 그대로 전달
+ * 전달된 요청은 헤더로 표시하고, 받은 쪽도 소유자가 아니면(링 정보가 엇갈린 순간) 다시 전달하거나 처리하지 않고 409 로 거절한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.partition", name = "enabled", havingValue = "true")
+public class PartitionRoutingFilter extends OncePerRequestFilter {
+
+    static final String FORWARDED_HEADER = "X-Point-Forwarded";
+    private static final Logger log = LoggerFactory.getLogger(PartitionRoutingFilter.class);
+    private static final Pattern USER_PATH = Pattern.compile("^(?:/async)?/point/(-?\\d+)(?:/.*)?$");
+    // 연결마다 다시 정해지거나 HttpClient 가 직접 설정하는 헤더
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "proxy-connection",
+            "te", "trailer", "transfer-encoding", "upgrade", "host", "content-length", "expect",
+            FORWARDED_HEADER.toLowerCase(Locale.ROOT));
+
+    private final PointPartitionService partitionService;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    public PartitionRoutingFilter(PointPartitionService partitionService, PointPartitionProperties properties) {
+        this.partitionService = partitionService;
+        this.timeout = Duration.ofMillis(properties.getForwardTimeoutMillis());
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Matcher matcher = USER_PATH.matcher(request.getRequestURI());
+        if (!matcher.matches()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long userId;
+        try {
+            userId = Long.parseLong(matcher.group(1));
+        } catch (NumberFormatException e) {
+            // long 범위를 넘는 ID 는 어느 인스턴스에도 없으므로 라우팅하지 않고 컨트롤러가 400 으로 응답하게 둠
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (partitionService.isOwner(userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String forwardedBy = request.getHeader(FORWARDED_HEADER);
+        if (forwardedBy != null) {
+            // 두 인스턴스의 링이 엇갈린 상태. 소유하지 않은 유저를 바꾸지 않도록 거절하고 다시 전달하지도 않음
+            log.warn("소유하지 않은 유저의 전달 요청 거절 - userId: {}, from: {}, owner: {}",
+                    userId, forwardedBy, partitionService.ownerOf(userId));
+            response.sendError(HttpServletResponse.SC_CONFLICT, "이 인스턴스가 소유하지 않은 유저입니다: " + userId);
+            return;
+        }
+        forward(partitionService.ownerOf(userId), request, response);
+    }
+
+    /**
+     * 요청/응답 헤더는 hop-by-hop 헤더를 빼고 그대로 옮기고, 응답 본문은 받는 대로 흘려보내 SSE 도 전달되게 한다.
+     */
+    private void forward(String owner, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String query = request.getQueryString();
+        URI uri = URI.create(owner + request.getRequestURI() + (query == null ? "" : "?" + query));
+        byte[] body = request.getInputStream().readAllBytes();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (isForwardable(name)) {
+                for (String value : Collections.list(request.getHeaders(name))) {
+                    builder.header(name, value);
+                }
+            }
+        }
+        builder.header(FORWARDED_HEADER, partitionService.self());
+        HttpResponse<InputStream> forwarded;
+        try {
+            // timeout 은 응답 헤더를 받을 때까지만 적용되므로 길게 열린 스트림은 끊기지 않음
+            forwarded = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        } catch (IOException e) {
+            log.warn("요청 전달 실패 - owner: {}, uri: {}", owner, uri, e);
+            response.sendError(HttpServletResponse.SC_BAD_GATEWAY);
+            return;
+        }
+        response.setStatus(forwarded.statusCode());
+        forwarded.headers().map().forEach((name, values) -> {
+            if (isForwardable(name)) {
+                values.forEach(value -> response.addHeader(name, value));
+            }
+        });
+        try (InputStream in = forwarded.body()) {
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        }
+    }
+
+    private static boolean isForwardable(String name) {
+        return !name.startsWith(":") && !HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT));
+    }
+}
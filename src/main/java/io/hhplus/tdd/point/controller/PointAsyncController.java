@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointController 와 동일한 API 를 비동기로 제공
+ * 요청 스레드는 future 를 반환하고 바로 반납되며, Table 호출은 블로킹 풀에서 실행된다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/async/point")
+public class PointAsyncController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAsyncController.class);
+    private final PointAsyncService pointAsyncService;
+
+    @GetMapping("{id}")
+    public CompletableFuture<UserPoint> point(@PathVariable long id) {
+        log.debug("[GET /async/point/{}] 포인트 조회 요청", id);
+        return pointAsyncService.findUserPointById(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public CompletableFuture<List<PointHistory>> history(@PathVariable long id) {
+        log.debug("[GET /async/point/{}/histories] 포인트 히스토리 조회 요청", id);
+        return pointAsyncService.loadPointHistories(id);
+    }
+
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPoint> charge(@PathVariable long id, @RequestBody long amount) {
+        log.debug("[PATCH /async/point/{}/charge] 포인트 충전 요청 - amount: {}", id, amount);
+        return pointAsyncService.charge(id, amount);
+    }
+
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPoint> use(@PathVariable long id, @RequestBody long amount) {
+        log.debug("[PATCH /async/point/{}/use] 포인트 사용 요청 - amount: {}", id, amount);
+        return pointAsyncService.use(id, amount);
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.model.PointAuditReport;
+import io.hhplus.tdd.point.service.PointAuditService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/point/audit")
+public class PointAuditController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAuditController.class);
+    private final PointAuditService pointAuditService;
+
+    @GetMapping
+    public ResponseEntity<PointAuditReport> latestReport() {
+        return pointAuditService.latestReport()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @PostMapping
+    public ResponseEntity<Void> trigger() {
+        log.info("[POST /point/audit] 포인트 감사 실행 요청");
+        return pointAuditService.trigger()
+                ? ResponseEntity.status(HttpStatus.ACCEPTED).build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+}
@@ -1,11 +1,13 @@
 package io.hhplus.tdd.point.controller;
 
+import io.hhplus.tdd.point.controller.HotPathLogger.Endpoint;
 import io.hhplus.tdd.point.model.PointHistory;
 import io.hhplus.tdd.point.model.UserPoint;
 import io.hhplus.tdd.point.service.PointService;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -15,39 +17,94 @@ import java.util.List;
 @RequestMapping("/point")
 public class PointController {
 
-    private static final Logger log = LoggerFactory.getLogger(PointController.class);
     private final PointService pointService;
+    private final HotPathLogger hotPathLogger;
+    private final ConditionalGetTracker conditionalGetTracker;
 
+    /**
+     * 조회 전에 버전을 먼저 읽어 ETag 로 쓴다. If-None-Match 가 현재 버전과 같으면 테이블을 읽지 않고 304 로 응답
+     */
     @GetMapping("{id}")
-    public UserPoint point(@PathVariable long id) {
-        log.info("[GET /point/{}] 포인트 조회 요청", id);
-        UserPoint userPoint = pointService.findUserPointById(id);
-        log.debug("UserPoint 조회 결과: {}", userPoint);
-        return userPoint;
+    public ResponseEntity<UserPoint> point(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        boolean sampled = hotPathLogger.begin(Endpoint.POINT, id, 0);
+        try {
+            String etag = currentEtag(id);
+            if (conditionalGetTracker.notModified(Endpoint.POINT, ifNoneMatch, etag)) {
+                if (sampled) {
+                    hotPathLogger.notModified(Endpoint.POINT, id);
+                }
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            UserPoint userPoint = pointService.findUserPointById(id);
+            if (sampled) {
+                hotPathLogger.completed(Endpoint.POINT, userPoint);
+            }
+            return ResponseEntity.ok().eTag(etag).body(userPoint);
+        } catch (RuntimeException e) {
+            hotPathLogger.failed(Endpoint.POINT, id, 0, e);
+            throw e;
+        }
     }
 
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(@PathVariable long id) {
-        log.info("[GET /point/{}/histories] 포인트 히스토리 조회 요청", id);
-        List<PointHistory> histories = pointService.loadPointHistories(id);
-        log.debug("조회된 히스토리 개수: {}", histories.size());
-        return histories;
+    public ResponseEntity<List<PointHistory>> history(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        boolean sampled = hotPathLogger.begin(Endpoint.HISTORIES, id, 0);
+        try {
+            String etag = currentEtag(id);
+            if (conditionalGetTracker.notModified(Endpoint.HISTORIES, ifNoneMatch, etag)) {
+                if (sampled) {
+                    hotPathLogger.notModified(Endpoint.HISTORIES, id);
+                }
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            List<PointHistory> histories = pointService.loadPointHistories(id);
+            if (sampled) {
+                hotPathLogger.completed(Endpoint.HISTORIES, id, histories.size());
+            }
+            return ResponseEntity.ok().eTag(etag).body(histories);
+        } catch (RuntimeException e) {
+            hotPathLogger.failed(Endpoint.HISTORIES, id, 0, e);
+            throw e;
+        }
     }
 
     @PatchMapping("{id}/charge")
     public UserPoint charge(@PathVariable long id, @RequestBody long amount) {
-        log.info("[PATCH /point/{}/charge] 포인트 충전 요청 - amount: {}", id, amount);
-        UserPoint result = pointService.charge(id, amount);
-        log.info("충전 완료 - userId: {}, 잔액: {}", result.id(), result.point());
-        return result;
+        boolean sampled = hotPathLogger.begin(Endpoint.CHARGE, id, amount);
+        try {
+            UserPoint result = pointService.charge(id, amount);
+            if (sampled) {
+                hotPathLogger.completed(Endpoint.CHARGE, result);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            hotPathLogger.failed(Endpoint.CHARGE, id, amount, e);
+            throw e;
+        }
     }
 
     @PatchMapping("{id}/use")
     public UserPoint use(@PathVariable long id, @RequestBody long amount) {
-        log.info("[PATCH /point/{}/use] 포인트 사용 요청 - amount: {}", id, amount);
-        UserPoint result = pointService.use(id, amount);
-        log.info("사용 완료 - userId: {}, 잔액: {}", result.id(), result.point());
-        return result;
+        boolean sampled = hotPathLogger.begin(Endpoint.USE, id, amount);
+        try {
+            UserPoint result = pointService.use(id, amount);
+            if (sampled) {
+                hotPathLogger.completed(Endpoint.USE, result);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            hotPathLogger.failed(Endpoint.USE, id, amount, e);
+            throw e;
+        }
     }
-}
 
+    private String currentEtag(long userId) {
+        return conditionalGetTracker.etag(pointService.versionEpoch(), pointService.versionOf(userId));
+    }
+}
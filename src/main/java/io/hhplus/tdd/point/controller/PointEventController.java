@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.service.PointEventBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/point")
+public class PointEventController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointEventController.class);
+    private final PointEventBroadcaster pointEventBroadcaster;
+
+    @GetMapping(value = "events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events() {
+        log.info("[GET /point/events] 전체 포인트 변경 이벤트 구독 요청");
+        return pointEventBroadcaster.subscribe(null);
+    }
+
+    @GetMapping(value = "{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable long id) {
+        log.info("[GET /point/{}/events] 포인트 변경 이벤트 구독 요청", id);
+        return pointEventBroadcaster.subscribe(id);
+    }
+}
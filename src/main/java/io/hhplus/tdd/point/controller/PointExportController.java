@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.service.BalanceVersionStore;
+import io.hhplus.tdd.point.service.PointExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/point")
+public class PointExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExportController.class);
+    private final PointExportService pointExportService;
+
+    /**
+     * 요청 시점의 모든 잔액을 gzip 압축된 NDJSON 으로 내려줌
+     * 스냅샷은 응답 본문을 쓰기 시작할 때 열리므로, 그 이후 반영된 충전/사용은 포함되지 않는다.
+     * 본문이 실행되지 않으면(타임아웃, 연결 끊김) 스냅샷도 열리지 않아 오래된 버전이 남지 않는다.
+     * 시퀀스 헤더는 스냅샷을 연 뒤, 첫 바이트를 쓰기 전에 설정한다.
+     */
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> export(HttpServletResponse response) {
+        log.info("[GET /point/export] 잔액 스냅샷 내보내기 요청");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, "application/gzip")
+                .body(out -> {
+                    try (BalanceVersionStore.Snapshot snapshot = pointExportService.openSnapshot()) {
+                        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                                "attachment; filename=\"points-" + snapshot.sequence() + ".ndjson.gz\"");
+                        response.setHeader("X-Snapshot-Sequence", String.valueOf(snapshot.sequence()));
+                        pointExportService.export(snapshot, out);
+                    }
+                });
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.model.HotKeyEntry;
+import io.hhplus.tdd.point.service.HotKeyDetector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/point")
+public class PointHotKeyController {
+
+    private final HotKeyDetector hotKeyDetector;
+
+    @GetMapping("hot-keys")
+    public List<HotKeyEntry> hotKeys() {
+        return hotKeyDetector.hotKeys();
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.service.PointIngestService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/point")
+public class PointIngestController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointIngestController.class);
+    private final PointIngestService pointIngestService;
+
+    /**
+     * 요청 본문을 버퍼링하지 않고 스트림으로 읽고, 진행 상황과 오류를 NDJSON 으로 흘려보냄
+     */
+    @PostMapping(value = "ingest", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void ingest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("[POST /point/ingest] 포인트 일괄 적재 요청 - contentLength: {}", request.getContentLengthLong());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        pointIngestService.ingest(request.getInputStream(), response.getOutputStream());
+    }
+}
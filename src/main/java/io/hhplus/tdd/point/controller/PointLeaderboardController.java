@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.config.PointLeaderboardProperties;
+import io.hhplus.tdd.point.model.LeaderboardEntry;
+import io.hhplus.tdd.point.service.PointLeaderboard;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/point")
+public class PointLeaderboardController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLeaderboardController.class);
+    private final PointLeaderboard pointLeaderboard;
+    private final PointLeaderboardProperties properties;
+
+    @GetMapping("leaderboard")
+    public List<LeaderboardEntry> leaderboard(@RequestParam(required = false) Integer limit) {
+        log.debug("[GET /point/leaderboard] 포인트 순위 조회 요청 - limit: {}", limit);
+        int requested = limit == null ? properties.getDefaultLimit() : limit;
+        return pointLeaderboard.top(Math.max(1, Math.min(requested, properties.getMaxLimit())));
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.model;
+
+/**
+ * 조건부 조회(If-None-Match) 통계
+ * - hitRatio : 조건부 요청 중 304 로 응답한 비율 (조건부 요청이 없으면 0)
+ */
+public record ConditionalGetStats(
+        String endpoint,
+        long requests,
+        long conditionalRequests,
+        long notModified,
+        double hitRatio
+) {
+}
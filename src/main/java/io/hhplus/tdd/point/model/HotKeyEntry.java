@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.model;
+
+/**
+ * hot 으로 다루고 있는 유저
+ * - estimatedCount : 감쇠가 반영된 최근 요청 수 추정치 (실제보다 작게 나오지 않음)
+ */
+public record HotKeyEntry(
+        long userId,
+        long estimatedCount,
+        long hotSinceMillis
+) {
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.model;
+
+public record IngestError(
+        String type,
+        long line,
+        String message
+) {
+
+    public static IngestError of(long line, String message) {
+        return new IngestError("error", line, message);
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.model;
+
+/**
+ * NDJSON 적재 진행 상황
+ * - read : 읽은 줄 수
+ * - applied / failed : 반영에 성공/실패한 줄 수
+ * - droppedErrors : 버퍼가 넘쳐 상세 내용을 보내지 못한 오류 수
+ */
+public record IngestProgress(
+        String type,
+        long read,
+        long applied,
+        long failed,
+        long droppedErrors
+) {
+
+    public static IngestProgress progress(long read, long applied, long failed, long droppedErrors) {
+        return new IngestProgress("progress", read, applied, failed, droppedErrors);
+    }
+
+    public static IngestProgress done(long read, long applied, long failed, long droppedErrors) {
+        return new IngestProgress("done", read, applied, failed, droppedErrors);
+    }
+}
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.model;
+
+public record LeaderboardEntry(
+        int rank,
+        long userId,
+        long point
+) {
+}
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.model;
+
+public record PointAuditMismatch(
+        long userId,
+        long expectedPoint,
+        long actualPoint
+) {
+}
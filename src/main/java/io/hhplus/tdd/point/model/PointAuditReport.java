@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.model;
+
+import java.util.List;
+
+/**
+ * 잔액-내역 정합성 감사 결과
+ * - completed : 시간 예산 안에 모든 유저를 검사했는지 여부
+ * - mismatchCount : 불일치 유저 수 (mismatches 는 일부만 담을 수 있음)
+ */
+public record PointAuditReport(
+        long startedMillis,
+        long finishedMillis,
+        boolean completed,
+        long scannedHistories,
+        long checkedUsers,
+        long mismatchCount,
+        List<PointAuditMismatch> mismatches
+) {
+}
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.model;
+
+public record PointEvent(
+        long sequence,
+        UserPoint userPoint,
+        PointHistory history
+) {
+}
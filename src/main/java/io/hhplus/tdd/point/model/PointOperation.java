@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.model;
+
+/**
+ * NDJSON 적재 파일의 한 줄
+ * e.g. {"userId":1,"type":"CHARGE","amount":1000}
+ * userId 가 빠진 줄을 0번 유저로 반영하지 않도록 박싱 타입으로 받아 누락을 구분한다.
+ */
+public record PointOperation(
+        Long userId,
+        TransactionType type,
+        long amount
+) {
+}
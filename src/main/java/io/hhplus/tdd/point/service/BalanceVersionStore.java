@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 유저별 잔액을 커밋 시퀀스가 붙은 버전 체인으로 보관해 특정 시점의 스냅샷을 만들 수 있게 함
+ *
+ * 변경이 반영될 때마다 새 버전을 체인 앞에 붙이고(copy-on-write), 열린 스냅샷이 더 이상 볼 일 없는 버전은 잘라낸다.
+ * 시퀀스 발급과 체인 갱신은 read lock 안에서 하고, 스냅샷은 write lock 안에서 현재 시퀀스만 읽는다.
+ * 따라서 스냅샷 시퀀스 이하의 버전은 모두 설치가 끝난 상태이며, 쓰기 경로는 스냅샷을 여는 그 순간에만 잠깐 기다린다.
+ */
+@Component
+public class BalanceVersionStore implements PointChangeListener {
+
+    private final ConcurrentHashMap<Long, Version> heads = new ConcurrentHashMap<>();
+    private final AtomicLong commitSequence = new AtomicLong();
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+    // 열린 스냅샷 시퀀스별 개수
+    private final ConcurrentSkipListMap<Long, Integer> activeSnapshots = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void onCommitted(UserPoint userPoint, PointHistory history) {
+        commitLock.readLock().lock();
+        try {
+            long sequence = commitSequence.incrementAndGet();
+            Map.Entry<Long, Integer> oldest = activeSnapshots.firstEntry();
+            heads.compute(userPoint.id(), (id, previous) -> {
+                Version head = new Version(userPoint, sequence, previous);
+                prune(head, oldest == null ? sequence : oldest.getKey());
+                return head;
+            });
+        } finally {
+            commitLock.readLock().unlock();
+        }
+    }
+
+    public Snapshot openSnapshot() {
+        commitLock.writeLock().lock();
+        try {
+            long sequence = commitSequence.get();
+            activeSnapshots.merge(sequence, 1, Integer::sum);
+            return new Snapshot(sequence);
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * oldestVisible 시퀀스에서 보이는 버전까지만 남기고 그보다 오래된 버전은 끊어냄
+     */
+    private static void prune(Version head, long oldestVisible) {
+        for (Version version = head; version != null; version = version.previous) {
+            if (version.sequence <= oldestVisible) {
+                version.previous = null;
+                return;
+            }
+        }
+    }
+
+    private static final class Version {
+        private final UserPoint userPoint;
+        private final long sequence;
+        private volatile Version previous;
+
+        private Version(UserPoint userPoint, long sequence, Version previous) {
+            this.userPoint = userPoint;
+            this.sequence = sequence;
+            this.previous = previous;
+        }
+    }
+
+    /**
+     * 열린 시점의 잔액만 보이는 읽기 전용 뷰. 다 쓰면 반드시 닫아야 오래된 버전이 정리된다.
+     */
+    public final class Snapshot implements AutoCloseable {
+
+        private final long sequence;
+        private boolean closed;
+
+        private Snapshot(long sequence) {
+            this.sequence = sequence;
+        }
+
+        public long sequence() {
+            return sequence;
+        }
+
+        /**
+         * 스냅샷 시점에 존재하던 유저의 잔액을 순회. 순회 중에도 쓰기는 막히지 않는다.
+         */
+        public void forEach(Consumer<UserPoint> action) {
+            for (Version head : heads.values()) {
+                for (Version version = head; version != null; version = version.previous) {
+                    if (version.sequence <= sequence) {
+                        action.accept(version.userPoint);
+                        break;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            activeSnapshots.computeIfPresent(sequence, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 키의 등장 횟수를 고정 크기 메모리로 추정하는 count-min sketch
+ * 추정치는 실제 횟수보다 작아지지 않으며, 다른 키와의 충돌만큼 크게 나올 수 있다.
+ * halve() 로 전체 카운트를 절반씩 줄여 최근 요청에 가중치를 둔다.
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray cells;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("width, depth 는 양수여야 합니다: " + width + ", " + depth);
+        }
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.cells = new AtomicLongArray(this.width * depth);
+    }
+
+    /**
+     * 키를 한 번 센 뒤의 추정치를 반환
+     */
+    public long add(long key) {
+        long hash = mix(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, cells.incrementAndGet(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    public long estimate(long key) {
+        long hash = mix(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, cells.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    public void halve() {
+        for (int i = 0; i < cells.length(); i++) {
+            long current;
+            do {
+                current = cells.get(i);
+            } while (current != 0 && !cells.compareAndSet(i, current, current >> 1));
+        }
+    }
+
+    // 행마다 다른 해시가 되도록 키 해시에 행 번호를 섞어 한 번 더 mix
+    private int index(long hash, int row) {
+        return row * width + (int) (mix(hash + row * 0x9E3779B97F4A7C15L) & mask);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,127 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.config.PointHotKeyProperties;
+import io.hhplus.tdd.point.model.HotKeyEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * 충전/사용 요청을 count-min sketch 로 세어 요청이 몰리는 유저를 hot 으로 표시
+ * 주기적으로 카운트를 절반씩 줄여 최근 구간의 요청만 반영하고,
+ * hot 진입과 해제 기준을 다르게 두어 경계에 있는 유저가 매번 오가지 않게 한다.
+ */
+@Component
+public class HotKeyDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(HotKeyDetector.class);
+    private final PointHotKeyProperties properties;
+    private final CountMinSketch sketch;
+    // userId -> hot 으로 전환된 시각
+    private final ConcurrentHashMap<Long, Long> hotKeys = new ConcurrentHashMap<>();
+    private final List<LongConsumer> coolListeners = new CopyOnWriteArrayList<>();
+
+    public HotKeyDetector(PointHotKeyProperties properties) {
+        this.properties = properties;
+        this.sketch = new CountMinSketch(properties.getSketchWidth(), properties.getSketchDepth());
+    }
+
+    /**
+     * 충전/사용 요청마다 한 번 호출. 이 요청을 반영한 뒤 해당 유저가 hot 인지 반환
+     */
+    public boolean record(long userId) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        long estimate = sketch.add(userId);
+        if (estimate >= properties.getHotThreshold() && !hotKeys.containsKey(userId)) {
+            Long evicted = promote(userId, estimate);
+            if (evicted != null) {
+                notifyCooled(evicted, "evicted");
+            }
+        }
+        return hotKeys.containsKey(userId);
+    }
+
+    public boolean isHot(long userId) {
+        return hotKeys.containsKey(userId);
+    }
+
+    /**
+     * hot 에서 해제될 때 호출할 콜백 등록. 요청 스레드나 감쇠 스케줄러 스레드에서 호출된다.
+     */
+    public void onCooled(LongConsumer listener) {
+        coolListeners.add(listener);
+    }
+
+    public List<HotKeyEntry> hotKeys() {
+        List<HotKeyEntry> entries = new ArrayList<>(hotKeys.size());
+        for (Map.Entry<Long, Long> entry : hotKeys.entrySet()) {
+            entries.add(new HotKeyEntry(entry.getKey(), sketch.estimate(entry.getKey()), entry.getValue()));
+        }
+        entries.sort(Comparator.comparingLong(HotKeyEntry::estimatedCount).reversed());
+        return entries;
+    }
+
+    @Scheduled(fixedDelayString = "${point.hot-key.decay-interval-millis}")
+    public void decay() {
+        sketch.halve();
+        for (Long userId : hotKeys.keySet()) {
+            if (sketch.estimate(userId) < properties.getCoolThreshold() && unmark(userId)) {
+                notifyCooled(userId, "cooled");
+            }
+        }
+    }
+
+    // 기준을 넘는 유저가 동시에 많지 않으므로 전환과 해제는 같은 모니터로 직렬화해 max-hot-keys 를 지킴
+    // 콜백은 유저 락을 잡으므로 모니터 밖에서 부르도록 밀어낸 유저를 반환
+    private synchronized Long promote(long userId, long estimate) {
+        if (hotKeys.containsKey(userId)) {
+            return null;
+        }
+        Long evicted = null;
+        if (hotKeys.size() >= properties.getMaxHotKeys()) {
+            long coldest = -1;
+            long coldestEstimate = Long.MAX_VALUE;
+            for (Long candidate : hotKeys.keySet()) {
+                long candidateEstimate = sketch.estimate(candidate);
+                if (candidateEstimate < coldestEstimate) {
+                    coldest = candidate;
+                    coldestEstimate = candidateEstimate;
+                }
+            }
+            if (coldestEstimate >= estimate) {
+                return null;
+            }
+            hotKeys.remove(coldest);
+            evicted = coldest;
+        }
+        hotKeys.put(userId, System.currentTimeMillis());
+        log.info("hot key 전환 - userId: {}, 추정 요청 수: {}", userId, estimate);
+        return evicted;
+    }
+
+    private synchronized boolean unmark(long userId) {
+        return hotKeys.remove(userId) != null;
+    }
+
+    private void notifyCooled(long userId, String reason) {
+        log.info("hot key 해제 - userId: {}, 사유: {}", userId, reason);
+        for (LongConsumer listener : coolListeners) {
+            try {
+                listener.accept(userId);
+            } catch (RuntimeException e) {
+                log.warn("hot key 해제 콜백 실패 - userId: {}", userId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.config.PointAsyncProperties;
+import io.hhplus.tdd.error.TooManyPendingRequestsException;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * PointService 를 제한된 블로킹 풀 위에서 실행하는 어댑터
+ * 같은 유저의 충전/사용은 이전 작업의 future 뒤에 이어 붙여 순서대로 실행한다.
+ * 락 대기로 풀 스레드를 점유하지 않기 위함이며, PointService 의 유저별 락은 그대로 유지된다.
+ * 이어 붙인 작업은 풀 큐에 들어가기 전까지 큐 용량에 잡히지 않으므로, 유저별 대기 수를 따로 제한한다.
+ */
+@Service
+public class PointAsyncService {
+
+    private final PointService pointService;
+    private final Executor executor;
+    private final int maxPendingPerUser;
+    private final ConcurrentHashMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public PointAsyncService(
+            PointService pointService,
+            @Qualifier("pointBlockingExecutor") ThreadPoolTaskExecutor executor,
+            PointAsyncProperties properties
+    ) {
+        this.pointService = pointService;
+        this.executor = executor;
+        this.maxPendingPerUser = properties.getMaxPendingPerUser();
+    }
+
+    public CompletableFuture<UserPoint> findUserPointById(long userId) {
+        return CompletableFuture.supplyAsync(() -> pointService.findUserPointById(userId), executor);
+    }
+
+    public CompletableFuture<List<PointHistory>> loadPointHistories(long userId) {
+        return CompletableFuture.supplyAsync(() -> pointService.loadPointHistories(userId), executor);
+    }
+
+    public CompletableFuture<UserPoint> charge(long userId, long amount) {
+        return enqueue(userId, () -> pointService.charge(userId, amount));
+    }
+
+    public CompletableFuture<UserPoint> use(long userId, long amount) {
+        return enqueue(userId, () -> pointService.use(userId, amount));
+    }
+
+    /**
+     * @throws TooManyPendingRequestsException 해당 유저의 대기 작업이 max-pending-per-user 에 도달한 경우
+     */
+    private CompletableFuture<UserPoint> enqueue(long userId, Supplier<UserPoint> task) {
+        Lane lane = lanes.compute(userId, (id, current) -> {
+            if (current == null) {
+                return new Lane(CompletableFuture.supplyAsync(task, executor), 1);
+            }
+            if (current.pending >= maxPendingPerUser) {
+                throw new TooManyPendingRequestsException("처리 대기 중인 요청이 너무 많습니다: " + current.pending);
+            }
+            // 앞선 작업의 성공/실패와 무관하게 다음 작업을 실행
+            return new Lane(current.tail.handle((result, ex) -> null).thenApplyAsync(ignored -> task.get(), executor),
+                    current.pending + 1);
+        });
+        // 대기 수를 먼저 줄인 뒤 호출한 쪽에 완료를 알림
+        return lane.tail.whenComplete((result, ex) -> lanes.computeIfPresent(userId,
+                (id, current) -> current.pending == 1 ? null : new Lane(current.tail, current.pending - 1)));
+    }
+
+    // 유저별 마지막 작업과 아직 끝나지 않은 작업 수
+    private record Lane(CompletableFuture<UserPoint> tail, int pending) {
+    }
+}
@@ -0,0 +1,237 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.config.PointAuditProperties;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.model.PointAuditMismatch;
+import io.hhplus.tdd.point.model.PointAuditReport;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 유저별 잔액이 CHARGE 합계 - USE 합계와 같은지 검사
+ *
+ * 1. 원장 stripe 를 캡처하고, 청크 구간을 fork-join 으로 나눠 한 번만 훑으며 구간별 LongSumMap 에 누적한 뒤 접힌 합계와 병합
+ * 2. 유저별 합계를 UserPointTable 잔액과 비교
+ * 3. 불일치 후보는 집계 이후 반영된 변경 때문일 수 있으므로, 유저 락 안에서 잔액과 원장 위치를 읽고 그 사이 구간을 더해 다시 비교
+ *
+ * 시간 예산은 집계와 비교 전체에 적용한다.
+ *
+ * 전용 fork-join 풀과 제한된 조회 스레드만 사용하고, 유저 락은 불일치 후보에만 잡으므로 라이브 트래픽을 막지 않는다.
+ */
+@Service
+public class PointAuditService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAuditService.class);
+    private static final int LEAF_SIZE = 1 << 16;
+
+    private final PointLedger pointLedger;
+    private final UserPointTable userPointTable;
+    private final PointService pointService;
+    private final PointAuditProperties properties;
+    private final ForkJoinPool sumPool;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "point-audit"));
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<PointAuditReport> latestReport = new AtomicReference<>();
+
+    public PointAuditService(
+            PointLedger pointLedger,
+            UserPointTable userPointTable,
+            PointService pointService,
+            PointAuditProperties properties
+    ) {
+        this.pointLedger = pointLedger;
+        this.userPointTable = userPointTable;
+        this.pointService = pointService;
+        this.properties = properties;
+        this.sumPool = new ForkJoinPool(properties.getParallelism());
+    }
+
+    public Optional<PointAuditReport> latestReport() {
+        return Optional.ofNullable(latestReport.get());
+    }
+
+    /**
+     * @return 이미 실행 중이면 false
+     */
+    public boolean trigger() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        runner.execute(() -> {
+            try {
+                latestReport.set(audit());
+            } catch (RuntimeException e) {
+                log.error("포인트 감사 실패", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    @Scheduled(cron = "${point.audit.cron}")
+    public void scheduledAudit() {
+        trigger();
+    }
+
+    public PointAuditReport audit() {
+        long startedMillis = System.currentTimeMillis();
+        long deadline = startedMillis + properties.getTimeBudgetMillis();
+        AtomicBoolean timedOut = new AtomicBoolean();
+        AtomicLong checkedUsers = new AtomicLong();
+        AtomicLong mismatchCount = new AtomicLong();
+        ConcurrentLinkedQueue<PointAuditMismatch> mismatches = new ConcurrentLinkedQueue<>();
+        List<PointLedger.Snapshot> snapshots = pointLedger.snapshot();
+        long scanned = 0;
+        try {
+            List<ForkJoinTask<LongSumMap>> sums = new ArrayList<>(snapshots.size());
+            for (PointLedger.Snapshot snapshot : snapshots) {
+                scanned += snapshot.size();
+                sums.add(sumPool.submit(new SumTask(snapshot, snapshot.firstPosition(), snapshot.size(), deadline, timedOut)));
+            }
+            List<LongSumMap> totals = new ArrayList<>(snapshots.size());
+            for (int i = 0; i < snapshots.size(); i++) {
+                // stripe 마다 유저가 겹치지 않으므로 접힌 합계에 청크 합계만 더하면 stripe 별 최종 합계가 된다
+                LongSumMap total = snapshots.get(i).base();
+                total.addAll(sums.get(i).join());
+                totals.add(total);
+            }
+            // 일부 구간만 더한 합계로 비교하면 거짓 불일치가 나오므로 집계가 끝나지 않았으면 비교하지 않음
+            if (!timedOut.get()) {
+                compare(snapshots, totals, deadline, timedOut, checkedUsers, mismatchCount, mismatches);
+            }
+        } finally {
+            pointLedger.release();
+        }
+
+        PointAuditReport report = new PointAuditReport(startedMillis, System.currentTimeMillis(), !timedOut.get(),
+                scanned, checkedUsers.get(), mismatchCount.get(), List.copyOf(mismatches));
+        log.info("포인트 감사 완료 - completed: {}, histories: {}, users: {}, mismatches: {}",
+                report.completed(), report.scannedHistories(), report.checkedUsers(), report.mismatchCount());
+        return report;
+    }
+
+    private void compare(
+            List<PointLedger.Snapshot> snapshots,
+            List<LongSumMap> totals,
+            long deadline,
+            AtomicBoolean timedOut,
+            AtomicLong checkedUsers,
+            AtomicLong mismatchCount,
+            ConcurrentLinkedQueue<PointAuditMismatch> mismatches
+    ) {
+        int concurrency = properties.getBalanceLookupConcurrency();
+        ExecutorService lookupPool = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> stripes = new ArrayList<>();
+            for (int stripe = 0; stripe < concurrency; stripe++) {
+                int first = stripe;
+                stripes.add(lookupPool.submit(() -> {
+                    for (int i = 0; i < totals.size(); i++) {
+                        LongSumMap total = totals.get(i);
+                        long scanned = snapshots.get(i).size();
+                        for (int slot = first; slot < total.capacity(); slot += concurrency) {
+                            if (System.currentTimeMillis() > deadline) {
+                                timedOut.set(true);
+                                return;
+                            }
+                            if (!total.occupied(slot)) {
+                                continue;
+                            }
+                            PointAuditMismatch mismatch = check(total.keyAt(slot), total.valueAt(slot), scanned);
+                            checkedUsers.incrementAndGet();
+                            if (mismatch != null && mismatchCount.incrementAndGet() <= properties.getMaxReportedMismatches()) {
+                                mismatches.add(mismatch);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> stripe : stripes) {
+                stripe.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut.set(true);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("잔액 조회 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            lookupPool.shutdownNow();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        sumPool.shutdownNow();
+    }
+
+    /**
+     * 불일치 후보는 유저 락 안에서 잔액과 원장 위치만 함께 읽고, 그 사이 구간의 합계는 락을 놓은 뒤 계산한다.
+     */
+    private PointAuditMismatch check(long userId, long expected, long scanned) {
+        if (userPointTable.selectById(userId).point() == expected) {
+            return null;
+        }
+        Captured captured = pointService.withUserLock(userId,
+                () -> new Captured(userPointTable.selectById(userId).point(), pointLedger.position(userId)));
+        long expectedNow = expected + pointLedger.sumOf(userId, scanned, captured.position());
+        return expectedNow == captured.point() ? null : new PointAuditMismatch(userId, expectedNow, captured.point());
+    }
+
+    private record Captured(long point, long position) {
+    }
+
+    private class SumTask extends RecursiveTask<LongSumMap> {
+
+        private final PointLedger.Snapshot snapshot;
+        private final long from;
+        private final long to;
+        private final long deadline;
+        private final AtomicBoolean timedOut;
+
+        private SumTask(PointLedger.Snapshot snapshot, long from, long to, long deadline, AtomicBoolean timedOut) {
+            this.snapshot = snapshot;
+            this.from = from;
+            this.to = to;
+            this.deadline = deadline;
+            this.timedOut = timedOut;
+        }
+
+        @Override
+        protected LongSumMap compute() {
+            if (to - from <= LEAF_SIZE) {
+                LongSumMap sums = new LongSumMap(1024);
+                if (timedOut.get() || System.currentTimeMillis() > deadline) {
+                    timedOut.set(true);
+                    return sums;
+                }
+                snapshot.accumulate(from, to, sums);
+                return sums;
+            }
+            long middle = (from + to) >>> 1;
+            SumTask left = new SumTask(snapshot, from, middle, deadline, timedOut);
+            left.fork();
+            LongSumMap right = new SumTask(snapshot, middle, to, deadline, timedOut).compute();
+            LongSumMap merged = left.join();
+            // 작은 쪽을 큰 쪽에 합쳐 재해싱 비용을 줄임
+            if (merged.size() < right.size()) {
+                right.addAll(merged);
+                return right;
+            }
+            merged.addAll(right);
+            return merged;
+        }
+    }
+}
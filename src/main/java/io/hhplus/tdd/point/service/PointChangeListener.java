@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+
+/**
+ * 충전/사용이 반영된 직후 호출되는 리스너
+ * 유저별 락을 잡은 상태에서 호출되므로 블로킹 없이 빠르게 끝나야 한다.
+ * 잔액은 저장됐지만 내역 기록에 실패한 변경은 history 가 null 로 전달된다.
+ */
+public interface PointChangeListener {
+
+    void onCommitted(UserPoint userPoint, PointHistory history);
+
+}
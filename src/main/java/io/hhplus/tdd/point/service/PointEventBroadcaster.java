@@ -0,0 +1,257 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.config.PointEventProperties;
+import io.hhplus.tdd.point.model.PointEvent;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 반영된 포인트 변경을 링 버퍼에 쌓고, 구독자마다 자기 커서로 링을 읽어 SSE 로 밀어준다.
+ * 충전/사용 경로는 링 버퍼에 쓰기만 하므로 느린 구독자 때문에 막히지 않는다.
+ *
+ * 디스패처 스레드는 전송하지 않고, 밀린 이벤트가 있는 구독자의 전송 작업을 전송 풀에 넘기기만 한다.
+ * 전송이 send-timeout-millis 를 넘기거나 커서가 링에서 밀려난(한 바퀴 뒤처진) 구독자는 제거하므로
+ * 느린 구독자 하나가 다른 구독자의 스트림을 막지 않는다.
+ * 시간을 넘긴 전송 스레드는 인터럽트하고, 막힌 쓰기에서 돌아올 때까지 풀에 한 자리를 더해 대신하므로
+ * 멈춘 구독자가 sender-threads 보다 많아도 나머지 구독자의 전송은 계속된다.
+ */
+@Component
+public class PointEventBroadcaster implements PointChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PointEventBroadcaster.class);
+
+    private final PointEventRingBuffer ringBuffer;
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-event-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ThreadPoolExecutor senders;
+    private final int maxBatchSize;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutNanos;
+
+    public PointEventBroadcaster(PointEventProperties properties) {
+        this.ringBuffer = new PointEventRingBuffer(properties.getBufferSize());
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.emitterTimeoutMillis = properties.getEmitterTimeoutMillis();
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMillis());
+        AtomicInteger senderIndex = new AtomicInteger();
+        // 구독자마다 전송 작업이 최대 하나이므로 큐가 넘치면 다음 주기에 다시 넘기면 됨
+        this.senders = new ThreadPoolExecutor(properties.getSenderThreads(), properties.getSenderThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getSenderThreads() * 64), runnable -> {
+            Thread thread = new Thread(runnable, "point-event-sender-" + senderIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getDispatchIntervalMillis();
+        dispatcher.scheduleWithFixedDelay(this::dispatch, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onCommitted(UserPoint userPoint, PointHistory history) {
+        ringBuffer.publish(userPoint, history);
+    }
+
+    /**
+     * @param userId null 이면 모든 유저의 이벤트를 구독
+     */
+    public SseEmitter subscribe(Long userId) {
+        return subscribe(userId, new SseEmitter(emitterTimeoutMillis));
+    }
+
+    /**
+     * 이미 만든 emitter 로 구독. 구독 시점 이후 발행된 이벤트부터 전달한다.
+     */
+    public SseEmitter subscribe(Long userId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, userId, ringBuffer.head());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void dispatch() {
+        long head = ringBuffer.head();
+        long oldest = ringBuffer.oldestAvailable();
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            try {
+                if (subscriber.sending.get()) {
+                    // 풀 큐에서 기다리는 시간은 구독자 탓이 아니므로 전송이 시작된 뒤부터 잼
+                    long startedNanos = subscriber.sendStartedNanos;
+                    if (startedNanos != 0 && now - startedNanos > sendTimeoutNanos) {
+                        abandon(subscriber);
+                    }
+                    continue;
+                }
+                if (subscriber.next < oldest) {
+                    evict(subscriber, "링 버퍼에서 밀려남 - skipped: " + (oldest - subscriber.next));
+                    continue;
+                }
+                if (subscriber.next < head && subscriber.sending.compareAndSet(false, true)) {
+                    try {
+                        senders.execute(() -> send(subscriber));
+                    } catch (RejectedExecutionException e) {
+                        subscriber.sending.set(false);
+                    }
+                }
+            } catch (RuntimeException e) {
+                // 스케줄러가 멈추지 않도록 예상치 못한 예외도 여기서 끊음
+                log.warn("이벤트 전송 예약 실패 - userId: {}", subscriber.userId, e);
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        synchronized (subscriber) {
+            if (subscriber.abandoned) {
+                return;
+            }
+            subscriber.sender = Thread.currentThread();
+            subscriber.sendStartedNanos = System.nanoTime();
+        }
+        try {
+            drain(subscriber);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("이벤트 구독자 제거 - userId: {}", subscriber.userId, e);
+            evict(subscriber, "전송 실패");
+        } catch (RuntimeException e) {
+            log.warn("이벤트 전송 실패 - userId: {}", subscriber.userId, e);
+        } finally {
+            boolean abandoned;
+            synchronized (subscriber) {
+                subscriber.sender = null;
+                subscriber.sendStartedNanos = 0;
+                abandoned = subscriber.abandoned;
+                // 다음 작업까지 인터럽트가 번지지 않도록 지움
+                Thread.interrupted();
+            }
+            if (abandoned) {
+                subscriber.emitter.completeWithError(new IllegalStateException("전송 시간 초과"));
+                resizeSenders(-1);
+            }
+            subscriber.sending.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) throws IOException {
+        long head = ringBuffer.head();
+        int sent = 0;
+        while (subscriber.next < head && sent < maxBatchSize) {
+            PointEvent event;
+            try {
+                event = ringBuffer.read(subscriber.next);
+            } catch (PointEventRingBuffer.LappedException e) {
+                evict(subscriber, "링 버퍼에서 밀려남");
+                return;
+            }
+            if (event == null) {
+                return; // 아직 쓰이는 중인 슬롯. 다음 주기에 다시 읽음
+            }
+            subscriber.next++;
+            if (subscriber.accepts(event)) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.sequence()))
+                        .name("point")
+                        .data(event));
+                sent++;
+            }
+        }
+    }
+
+    /**
+     * 전송 시간을 넘긴 구독자를 제거하고 전송 스레드를 인터럽트.
+     * 전송 중인 emitter 는 전송 스레드가 잡고 있으므로 디스패처가 닫지 않고, 전송 스레드가 돌아오면서 닫는다.
+     */
+    private void abandon(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        log.info("느린 이벤트 구독자 제거 - userId: {}, 사유: 전송 시간 초과", subscriber.userId);
+        Thread sender;
+        synchronized (subscriber) {
+            subscriber.abandoned = true;
+            sender = subscriber.sender;
+            if (sender != null) {
+                sender.interrupt();
+            }
+        }
+        if (sender != null) {
+            resizeSenders(1);
+        } else {
+            // 전송 작업이 아직 시작 전이거나 이미 끝난 경우라 emitter 를 잡은 스레드가 없음
+            subscriber.emitter.completeWithError(new IllegalStateException("전송 시간 초과"));
+        }
+    }
+
+    // 막힌 전송 스레드만큼 풀을 늘리고 줄여, 실제로 전송할 수 있는 스레드 수를 sender-threads 로 유지
+    private synchronized void resizeSenders(int delta) {
+        int size = senders.getCorePoolSize() + delta;
+        if (delta > 0) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    private void evict(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber)) {
+            log.info("느린 이벤트 구독자 제거 - userId: {}, 사유: {}", subscriber.userId, reason);
+            subscriber.emitter.completeWithError(new IllegalStateException(reason));
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long userId;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // 전송 작업 하나만 읽고 쓰며, 작업 사이의 가시성은 sending 플래그가 보장
+        private long next;
+        private volatile long sendStartedNanos;
+        // 구독자 모니터로 보호. 전송 중인 스레드와 시간 초과로 버려졌는지 여부
+        private Thread sender;
+        private boolean abandoned;
+
+        private Subscriber(SseEmitter emitter, Long userId, long next) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.next = next;
+        }
+
+        private boolean accepts(PointEvent event) {
+            return userId == null || userId == event.userPoint().id();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.model.PointEvent;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미리 할당된 슬롯에 이벤트를 덮어쓰는 다중 생산자 링 버퍼
+ * 생산자는 시퀀스를 하나 받아 슬롯에 쓰기만 하므로 소비자 속도와 무관하게 막히지 않는다.
+ * 소비자는 각자 다음에 읽을 시퀀스를 들고 있다가, 한 바퀴 이상 뒤처지면 건너뛴다.
+ */
+public final class PointEventRingBuffer {
+
+    private static final long WRITING = -1L;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+
+    public PointEventRingBuffer(int requestedSize) {
+        int size = requestedSize <= 2 ? 2 : Integer.highestOneBit(requestedSize - 1) << 1;
+        this.slots = new Slot[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    public void publish(UserPoint userPoint, PointHistory history) {
+        long sequence = claimed.getAndIncrement();
+        Slot slot = slots[(int) (sequence & mask)];
+        // 쓰는 도중에는 WRITING 으로 표시해 소비자가 반쯤 쓰인 슬롯을 읽지 않도록 함
+        slot.sequence = WRITING;
+        slot.userPoint = userPoint;
+        slot.history = history;
+        slot.sequence = sequence;
+    }
+
+    /**
+     * 다음에 발행될 시퀀스. 새 구독자는 여기서부터 읽는다.
+     */
+    public long head() {
+        return claimed.get();
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * 링에 아직 남아있는 가장 오래된 시퀀스. 이보다 뒤처진 소비자는 여기로 건너뛴다.
+     */
+    public long oldestAvailable() {
+        return Math.max(0, claimed.get() - slots.length);
+    }
+
+    /**
+     * @return 해당 시퀀스의 이벤트. 아직 쓰이는 중이면 null
+     * @throws LappedException 읽는 사이 생산자가 슬롯을 덮어쓴 경우
+     */
+    public PointEvent read(long sequence) {
+        Slot slot = slots[(int) (sequence & mask)];
+        long before = slot.sequence;
+        if (before > sequence) {
+            throw new LappedException();
+        }
+        if (before != sequence) {
+            return null;
+        }
+        UserPoint userPoint = slot.userPoint;
+        PointHistory history = slot.history;
+        if (slot.sequence != sequence) {
+            throw new LappedException();
+        }
+        return new PointEvent(sequence, userPoint, history);
+    }
+
+    public static final class LappedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private LappedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class Slot {
+        private volatile long sequence = WRITING;
+        private volatile UserPoint userPoint;
+        private volatile PointHistory history;
+    }
+}
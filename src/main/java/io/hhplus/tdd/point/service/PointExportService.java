@@ -0,0 +1,123 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.config.PointExportProperties;
+import io.hhplus.tdd.point.model.UserPoint;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 스냅샷의 잔액을 NDJSON + gzip 으로 내보냄
+ *
+ * 유저를 segment-size 단위로 나눠 각각 독립된 gzip 멤버로 병렬 압축하고, 순서대로 이어 붙여 쓴다.
+ * 이어 붙인 gzip 멤버는 그 자체로 하나의 올바른 gzip 파일이다. (RFC 1952)
+ * 압축 중이거나 쓰기를 기다리는 세그먼트는 parallelism * 2 개로 제한해 메모리를 일정하게 유지한다.
+ */
+@Service
+public class PointExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExportService.class);
+
+    private final BalanceVersionStore balanceVersionStore;
+    private final int segmentSize;
+    private final int maxInFlight;
+    private final ExecutorService encoders;
+
+    public PointExportService(BalanceVersionStore balanceVersionStore, PointExportProperties properties) {
+        this.balanceVersionStore = balanceVersionStore;
+        this.segmentSize = properties.getSegmentSize();
+        this.maxInFlight = properties.getParallelism() * 2;
+        this.encoders = Executors.newFixedThreadPool(properties.getParallelism());
+    }
+
+    public BalanceVersionStore.Snapshot openSnapshot() {
+        return balanceVersionStore.openSnapshot();
+    }
+
+    /**
+     * 스냅샷을 out 에 쓰고 스냅샷을 닫음
+     */
+    public void export(BalanceVersionStore.Snapshot snapshot, OutputStream out) throws IOException {
+        long startedNanos = System.nanoTime();
+        ArrayDeque<Future<byte[]>> inFlight = new ArrayDeque<>();
+        long[] exported = {0};
+        try (snapshot) {
+            List<UserPoint> segment = new ArrayList<>(segmentSize);
+            snapshot.forEach(userPoint -> {
+                segment.add(userPoint);
+                exported[0]++;
+                if (segment.size() == segmentSize) {
+                    submit(List.copyOf(segment), inFlight, out);
+                    segment.clear();
+                }
+            });
+            if (!segment.isEmpty()) {
+                submit(List.copyOf(segment), inFlight, out);
+            }
+            while (!inFlight.isEmpty()) {
+                writeOldest(inFlight, out);
+            }
+            out.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+        log.info("잔액 스냅샷 내보내기 완료 - sequence: {}, users: {}, elapsed: {}ms",
+                snapshot.sequence(), exported[0], (System.nanoTime() - startedNanos) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        encoders.shutdownNow();
+    }
+
+    private void submit(List<UserPoint> segment, ArrayDeque<Future<byte[]>> inFlight, OutputStream out) {
+        if (inFlight.size() >= maxInFlight) {
+            writeOldest(inFlight, out);
+        }
+        inFlight.addLast(encoders.submit(() -> encode(segment)));
+    }
+
+    private static void writeOldest(ArrayDeque<Future<byte[]>> inFlight, OutputStream out) {
+        try {
+            out.write(inFlight.removeFirst().get());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("내보내기가 중단되었습니다."));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("세그먼트 압축에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private static byte[] encode(List<UserPoint> segment) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(segment.size() * 24);
+        StringBuilder line = new StringBuilder(64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes, 8192)) {
+            for (UserPoint userPoint : segment) {
+                line.setLength(0);
+                line.append("{\"id\":").append(userPoint.id())
+                        .append(",\"point\":").append(userPoint.point())
+                        .append(",\"updateMillis\":").append(userPoint.updateMillis())
+                        .append("}\n");
+                gzip.write(line.toString().getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,278 @@
+package io.hhplus.tdd.point.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.config.PointIngestProperties;
+import io.hhplus.tdd.point.model.IngestError;
+import io.hhplus.tdd.point.model.IngestProgress;
+import io.hhplus.tdd.point.model.PointOperation;
+import io.hhplus.tdd.point.model.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NDJSON 본문을 한 줄씩 읽어 PointService 로 반영
+ *
+ * 요청 스레드가 본문을 읽고 유저 ID 로 레인을 골라 넘기며, 레인은 크기가 제한된 큐를 하나의 스레드가 순서대로 처리한다.
+ * 같은 유저는 항상 같은 레인으로 가므로 파일에 적힌 순서대로 반영되고, 큐가 가득 차면 본문 읽기가 멈춰
+ * 업로드 크기와 관계없이 메모리 사용량이 일정하다.
+ * 응답은 요청 스레드만 쓰며, 레인의 오류는 제한된 버퍼를 거쳐 진행 상황과 함께 흘려보낸다.
+ * 레인 스레드는 pointIngestExecutor 에서 빌리며, 파티션 모드에서는 이 노드가 담당하지 않는 유저의 줄을 오류로 기록한다.
+ */
+@Service
+public class PointIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointIngestService.class);
+    private static final Job END = new Job(-1, null);
+    private static final int EOF = -1;
+    private static final int TOO_LONG = -2;
+
+    private final PointService pointService;
+    private final ObjectMapper objectMapper;
+    private final PointIngestProperties properties;
+    private final ThreadPoolTaskExecutor laneExecutor;
+    private final PointPartitionService partitionService;
+    private final Semaphore ingestPermits;
+
+    public PointIngestService(
+            PointService pointService,
+            ObjectMapper objectMapper,
+            PointIngestProperties properties,
+            @Qualifier("pointIngestExecutor") ThreadPoolTaskExecutor laneExecutor,
+            Optional<PointPartitionService> partitionService
+    ) {
+        this.pointService = pointService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.laneExecutor = laneExecutor;
+        this.partitionService = partitionService.orElse(null);
+        this.ingestPermits = new Semaphore(properties.getMaxConcurrentIngests());
+    }
+
+    /**
+     * @throws RejectedExecutionException 이미 max-concurrent-ingests 만큼 적재 중인 경우 (본문을 읽기 전)
+     */
+    public void ingest(InputStream body, OutputStream response) throws IOException {
+        if (!ingestPermits.tryAcquire()) {
+            throw new RejectedExecutionException("동시에 처리할 수 있는 적재 요청 수를 넘었습니다.");
+        }
+        try {
+            ingestWithLanes(body, response);
+        } finally {
+            ingestPermits.release();
+        }
+    }
+
+    private void ingestWithLanes(InputStream body, OutputStream response) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response, StandardCharsets.UTF_8));
+        Progress progress = new Progress(properties.getMaxBufferedErrors());
+        int parallelism = properties.getParallelism();
+        Lane[] lanes = new Lane[parallelism];
+        List<Future<?>> running = new ArrayList<>(parallelism);
+        StringBuilder line = new StringBuilder(properties.getMaxLineLength());
+        long lineNumber = 0;
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                lanes[i] = new Lane(properties.getLaneQueueCapacity(), progress);
+                running.add(laneExecutor.submit(lanes[i]));
+            }
+            int result;
+            while ((result = readLine(reader, line, properties.getMaxLineLength())) != EOF) {
+                lineNumber++;
+                if (result == TOO_LONG) {
+                    progress.fail(lineNumber, "한 줄의 길이가 " + properties.getMaxLineLength() + "자를 넘습니다.");
+                } else if (!line.isEmpty()) {
+                    dispatch(lanes, lineNumber, line, progress);
+                }
+                if (lineNumber % properties.getProgressInterval() == 0) {
+                    writeProgress(writer, progress, lineNumber, false);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("적재가 중단되었습니다.");
+        } finally {
+            // 레인 제출이 거부되거나 본문 읽기가 실패해도 시작한 레인은 모두 끝낸 뒤에 허가를 돌려줌
+            for (int i = 0; i < running.size(); i++) {
+                lanes[i].finish();
+            }
+            awaitLanes(running);
+        }
+        writeProgress(writer, progress, lineNumber, true);
+        log.info("포인트 적재 완료 - read: {}, applied: {}, failed: {}", lineNumber, progress.applied.get(), progress.failed.get());
+    }
+
+    private void dispatch(Lane[] lanes, long lineNumber, CharSequence line, Progress progress) throws InterruptedException {
+        PointOperation operation;
+        try {
+            operation = objectMapper.readValue(line.toString(), PointOperation.class);
+        } catch (JsonProcessingException e) {
+            progress.fail(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            return;
+        }
+        if (operation.userId() == null) {
+            progress.fail(lineNumber, "userId 가 없습니다.");
+            return;
+        }
+        if (operation.type() == null) {
+            progress.fail(lineNumber, "type 이 없습니다.");
+            return;
+        }
+        if (partitionService != null && !partitionService.isOwner(operation.userId())) {
+            progress.fail(lineNumber, "이 노드가 담당하지 않는 유저입니다. owner: " + partitionService.ownerOf(operation.userId()));
+            return;
+        }
+        lanes[Math.floorMod(Long.hashCode(operation.userId()), lanes.length)].put(new Job(lineNumber, operation));
+    }
+
+    private static void awaitLanes(List<Future<?>> running) {
+        boolean interrupted = false;
+        for (Future<?> lane : running) {
+            while (true) {
+                try {
+                    lane.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    log.error("포인트 적재 레인 오류", e.getCause());
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeProgress(Writer writer, Progress progress, long read, boolean done) throws IOException {
+        IngestError error;
+        while ((error = progress.errors.poll()) != null) {
+            writer.write(objectMapper.writeValueAsString(error));
+            writer.write('\n');
+        }
+        long applied = progress.applied.get();
+        long failed = progress.failed.get();
+        long dropped = progress.droppedErrors.get();
+        writer.write(objectMapper.writeValueAsString(done
+                ? IngestProgress.done(read, applied, failed, dropped)
+                : IngestProgress.progress(read, applied, failed, dropped)));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /**
+     * 개행 전까지를 line 에 담음. maxLength 를 넘으면 나머지는 버리고 TOO_LONG 반환
+     */
+    private static int readLine(Reader reader, StringBuilder line, int maxLength) throws IOException {
+        line.setLength(0);
+        boolean tooLong = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                return tooLong ? TOO_LONG : line.length();
+            }
+            if (c == '\r') {
+                continue;
+            }
+            if (line.length() < maxLength) {
+                line.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        if (tooLong) {
+            return TOO_LONG;
+        }
+        return line.isEmpty() ? EOF : line.length();
+    }
+
+    private record Job(long lineNumber, PointOperation operation) {
+    }
+
+    private static final class Progress {
+        private final AtomicLong applied = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong droppedErrors = new AtomicLong();
+        private final BlockingQueue<IngestError> errors;
+
+        private Progress(int maxBufferedErrors) {
+            this.errors = new ArrayBlockingQueue<>(maxBufferedErrors);
+        }
+
+        private void fail(long lineNumber, String message) {
+            failed.incrementAndGet();
+            if (!errors.offer(IngestError.of(lineNumber, message))) {
+                droppedErrors.incrementAndGet();
+            }
+        }
+    }
+
+    private final class Lane implements Runnable {
+        private final BlockingQueue<Job> queue;
+        private final Progress progress;
+
+        private Lane(int capacity, Progress progress) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.progress = progress;
+        }
+
+        private void put(Job job) throws InterruptedException {
+            queue.put(job);
+        }
+
+        private void finish() {
+            // 요청 스레드가 인터럽트된 경우에도 레인이 종료되도록 인터럽트를 무시하고 넣음
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    queue.put(END);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Job job;
+                while ((job = queue.take()) != END) {
+                    apply(job);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void apply(Job job) {
+            PointOperation operation = job.operation();
+            try {
+                if (operation.type() == TransactionType.CHARGE) {
+                    pointService.charge(operation.userId(), operation.amount());
+                } else {
+                    pointService.use(operation.userId(), operation.amount());
+                }
+                progress.applied.incrementAndGet();
+            } catch (RuntimeException e) {
+                progress.fail(job.lineNumber(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.model.LeaderboardEntry;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 잔액 순위 인덱스
+ * 충전/사용이 반영될 때마다 skip list 에서 해당 유저의 이전 항목을 빼고 새 항목을 넣는다. (O(log n))
+ * 상위 N 명 조회는 skip list 앞에서부터 N 개만 읽는다. (O(N))
+ * 유저별 갱신은 current.compute 안에서 skip list 를 고치므로, PointService 의 유저 락 밖에서 호출되어도
+ * 같은 유저의 이전 항목 제거와 새 항목 추가가 뒤섞이지 않는다.
+ */
+@Component
+public class PointLeaderboard implements PointChangeListener {
+
+    private static final Comparator<Rank> ORDER = Comparator
+            .comparingLong(Rank::point).reversed()
+            .thenComparingLong(Rank::userId);
+
+    private final ConcurrentSkipListSet<Rank> ranking = new ConcurrentSkipListSet<>(ORDER);
+    private final ConcurrentHashMap<Long, Rank> current = new ConcurrentHashMap<>();
+
+    @Override
+    public void onCommitted(UserPoint userPoint, PointHistory history) {
+        update(userPoint.id(), userPoint.point());
+    }
+
+    public void update(long userId, long point) {
+        current.compute(userId, (id, previous) -> {
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            if (point <= 0) {
+                return null;
+            }
+            Rank next = new Rank(userId, point);
+            ranking.add(next);
+            return next;
+        });
+    }
+
+    /**
+     * 잔액이 0 인 유저는 순위에 포함하지 않음
+     * skip list 의 iterator 는 약한 일관성이라 순회 중에 갱신된 유저의 이전/새 항목이 함께 보일 수 있으므로
+     * 먼저 만난 항목만 쓰고 같은 유저의 나머지 항목은 건너뛴다.
+     */
+    public List<LeaderboardEntry> top(int limit) {
+        List<LeaderboardEntry> entries = new ArrayList<>(limit);
+        Set<Long> emitted = new HashSet<>();
+        Iterator<Rank> iterator = ranking.iterator();
+        while (iterator.hasNext() && entries.size() < limit) {
+            Rank rank = iterator.next();
+            if (emitted.add(rank.userId())) {
+                entries.add(new LeaderboardEntry(entries.size() + 1, rank.userId(), rank.point()));
+            }
+        }
+        return entries;
+    }
+
+    private record Rank(long userId, long point) {
+    }
+}
@@ -0,0 +1,231 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.config.PointAuditProperties;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import io.hhplus.tdd.point.model.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 반영된 내역을 (유저 ID, 부호 있는 금액) 의 원시 배열로 이어 붙여두는 원장
+ * PointHistoryTable 에는 전체 조회 API 가 없으므로, 감사 작업은 이 원장을 한 번에 훑는다.
+ *
+ * 유저 ID 로 stripe 를 나눠 각 stripe 의 모니터만 잡으므로 서로 다른 stripe 의 유저 쓰기는 경합하지 않는다.
+ * stripe 마다 최근 청크만 원시 배열로 두고, 오래된 청크는 유저별 합계(folded)로 접어 힙 사용량을
+ * 유저 수 + ledger-max-buffered-entries 로 제한한다.
+ */
+@Component
+public class PointLedger implements PointChangeListener {
+
+    private static final int STRIPE_COUNT = 64;
+    private static final int CHUNK_BITS = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    public PointLedger(PointAuditProperties properties) {
+        int maxChunks = (int) Math.max(1, properties.getLedgerMaxBufferedEntries() / STRIPE_COUNT / CHUNK_SIZE);
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe(i, maxChunks);
+        }
+    }
+
+    @Override
+    public void onCommitted(UserPoint userPoint, PointHistory history) {
+        if (history == null) {
+            return;
+        }
+        stripeOf(history.userId()).append(history.userId(),
+                history.type() == TransactionType.CHARGE ? history.amount() : -history.amount());
+    }
+
+    /**
+     * 모든 stripe 의 현재 상태를 캡처. release 전까지 캡처 위치 이후 구간은 접지 않는다.
+     * 감사는 한 번에 하나만 실행되므로 고정 위치도 하나만 유지한다.
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>(STRIPE_COUNT);
+        for (Stripe stripe : stripes) {
+            snapshots.add(stripe.snapshot());
+        }
+        return snapshots;
+    }
+
+    public void release() {
+        for (Stripe stripe : stripes) {
+            stripe.release();
+        }
+    }
+
+    /**
+     * 해당 유저가 속한 stripe 의 현재 위치. 유저 락 안에서 잔액과 함께 읽어 서로 맞는 지점을 얻는다.
+     */
+    public long position(long userId) {
+        return stripeOf(userId).position();
+    }
+
+    /**
+     * 해당 유저가 속한 stripe 의 [from, to) 구간에서 그 유저의 금액 합계
+     * from 은 snapshot 이 고정한 위치 이상이어야 한다.
+     */
+    public long sumOf(long userId, long from, long to) {
+        return stripeOf(userId).sumOf(userId, from, to);
+    }
+
+    private Stripe stripeOf(long userId) {
+        return stripes[(int) ((userId ^ (userId >>> 32)) & (STRIPE_COUNT - 1))];
+    }
+
+    /**
+     * 캡처 시점의 stripe. base 에는 접힌 구간의 유저별 합계 사본이 있고, [firstPosition, size) 는 청크에 있다.
+     * 청크는 캡처 이후 새로 쓰이지 않는 구간만 읽으므로 락 없이 읽어도 된다.
+     */
+    public static final class Snapshot {
+
+        private final int stripe;
+        private final LongSumMap base;
+        private final long[][] userIds;
+        private final long[][] amounts;
+        private final long firstPosition;
+        private final long size;
+
+        private Snapshot(int stripe, LongSumMap base, long[][] userIds, long[][] amounts, long firstPosition, long size) {
+            this.stripe = stripe;
+            this.base = base;
+            this.userIds = userIds;
+            this.amounts = amounts;
+            this.firstPosition = firstPosition;
+            this.size = size;
+        }
+
+        public int stripe() {
+            return stripe;
+        }
+
+        /**
+         * 캡처한 사본이므로 호출한 쪽이 자유롭게 더해도 된다.
+         */
+        public LongSumMap base() {
+            return base;
+        }
+
+        public long firstPosition() {
+            return firstPosition;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        /**
+         * [from, to) 구간의 금액을 유저별로 target 에 더함
+         */
+        public void accumulate(long from, long to, LongSumMap target) {
+            for (long index = from; index < to; ) {
+                int chunk = (int) ((index - firstPosition) >>> CHUNK_BITS);
+                int offset = (int) (index & CHUNK_MASK);
+                int end = (int) Math.min(CHUNK_SIZE, offset + (to - index));
+                long[] chunkUserIds = userIds[chunk];
+                long[] chunkAmounts = amounts[chunk];
+                for (int i = offset; i < end; i++) {
+                    target.add(chunkUserIds[i], chunkAmounts[i]);
+                }
+                index += end - offset;
+            }
+        }
+    }
+
+    private static final class Stripe {
+
+        private final int index;
+        private final int maxChunks;
+        private final LongSumMap folded = new LongSumMap(1024);
+        private long[][] userIds = new long[0][];
+        private long[][] amounts = new long[0][];
+        private long firstPosition;
+        private long size;
+        private long foldLimit = Long.MAX_VALUE;
+
+        private Stripe(int index, int maxChunks) {
+            this.index = index;
+            this.maxChunks = maxChunks;
+        }
+
+        private synchronized void append(long userId, long amount) {
+            int chunk = (int) ((size - firstPosition) >>> CHUNK_BITS);
+            if (chunk == userIds.length) {
+                userIds = Arrays.copyOf(userIds, chunk + 1);
+                amounts = Arrays.copyOf(amounts, chunk + 1);
+                userIds[chunk] = new long[CHUNK_SIZE];
+                amounts[chunk] = new long[CHUNK_SIZE];
+                fold();
+                chunk = userIds.length - 1;
+            }
+            int offset = (int) (size & CHUNK_MASK);
+            userIds[chunk][offset] = userId;
+            amounts[chunk][offset] = amount;
+            size++;
+        }
+
+        // 가득 찬 가장 오래된 청크부터 유저별 합계로 접음. 감사가 고정한 위치 이후는 접지 않음
+        private void fold() {
+            int drop = 0;
+            while (userIds.length - drop > maxChunks && firstPosition + (long) (drop + 1) * CHUNK_SIZE <= foldLimit) {
+                long[] chunkUserIds = userIds[drop];
+                long[] chunkAmounts = amounts[drop];
+                for (int i = 0; i < CHUNK_SIZE; i++) {
+                    folded.add(chunkUserIds[i], chunkAmounts[i]);
+                }
+                drop++;
+            }
+            if (drop > 0) {
+                userIds = Arrays.copyOfRange(userIds, drop, userIds.length);
+                amounts = Arrays.copyOfRange(amounts, drop, amounts.length);
+                firstPosition += (long) drop * CHUNK_SIZE;
+            }
+        }
+
+        private synchronized Snapshot snapshot() {
+            LongSumMap base = new LongSumMap(Math.max(16, folded.size()));
+            base.addAll(folded);
+            foldLimit = size;
+            return new Snapshot(index, base, userIds, amounts, firstPosition, size);
+        }
+
+        private synchronized void release() {
+            foldLimit = Long.MAX_VALUE;
+        }
+
+        private synchronized long position() {
+            return size;
+        }
+
+        private long sumOf(long userId, long from, long to) {
+            long[][] userIdChunks;
+            long[][] amountChunks;
+            long first;
+            synchronized (this) {
+                if (from < firstPosition) {
+                    throw new IllegalStateException("이미 접힌 원장 구간입니다: " + from + " < " + firstPosition);
+                }
+                userIdChunks = userIds;
+                amountChunks = amounts;
+                first = firstPosition;
+            }
+            long sum = 0;
+            for (long position = from; position < to; position++) {
+                int chunk = (int) ((position - first) >>> CHUNK_BITS);
+                int offset = (int) (position & CHUNK_MASK);
+                if (userIdChunks[chunk][offset] == userId) {
+                    sum += amountChunks[chunk][offset];
+                }
+            }
+            return sum;
+        }
+    }
+}
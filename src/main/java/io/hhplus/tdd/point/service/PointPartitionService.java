@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.config.PointPartitionProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 현재 인스턴스가 어떤 유저를 소유하는지 판단
+ * 멤버 변경은 링 전체를 교체하는 방식이라 조회 경로에는 락이 없다.
+ *
+ * Table 에 전체 조회 API 가 없어 소유권이 바뀐 유저의 잔액을 새 소유자에게 옮길 수는 없다.
+ * 따라서 멤버 변경은 트래픽이 없는 시점(배포/스케일 이벤트)에 수행해야 한다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "point.partition", name = "enabled", havingValue = "true")
+public class PointPartitionService {
+
+    private final String self;
+    private final int virtualNodes;
+    private volatile ConsistentHashRing ring;
+
+    public PointPartitionService(PointPartitionProperties properties) {
+        this.self = properties.getSelf();
+        this.virtualNodes = properties.getVirtualNodes();
+        this.ring = new ConsistentHashRing(properties.getNodes(), virtualNodes);
+        if (!ring.nodes().contains(self)) {
+            throw new IllegalStateException("point.partition.nodes 에 현재 인스턴스(" + self + ")가 없습니다.");
+        }
+    }
+
+    public boolean isOwner(long userId) {
+        return self.equals(ring.ownerOf(userId));
+    }
+
+    public String ownerOf(long userId) {
+        return ring.ownerOf(userId);
+    }
+
+    public String self() {
+        return self;
+    }
+
+    public List<String> nodes() {
+        return ring.nodes();
+    }
+
+    public void rebalance(List<String> nodes) {
+        if (!nodes.contains(self)) {
+            throw new IllegalArgumentException("노드 목록에 현재 인스턴스(" + self + ")가 없습니다.");
+        }
+        ring = new ConsistentHashRing(nodes, virtualNodes);
+    }
+}
@@ -8,12 +8,18 @@ import io.hhplus.tdd.error.InvalidAmountException;
 import io.hhplus.tdd.point.model.PointHistory;
 import io.hhplus.tdd.point.model.TransactionType;
 import io.hhplus.tdd.point.model.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  * 예외를 던지는 책임은 “비즈니스 해석”
@@ -21,23 +27,39 @@ import java.util.concurrent.locks.ReentrantLock;
 @Service
 public class PointService {
 
+    private static final Logger log = LoggerFactory.getLogger(PointService.class);
     private final UserPointTable userPointTable;
     private final PointHistoryTable pointHistoryTable;
     private final ConcurrentHashMap<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
     private final long maxChargeAmount;
+    private final List<PointChangeListener> listeners;
+    // 유저별 변경 버전. 테이블과 함께 재시작 시 초기화되므로 기동 시각(epoch)과 함께 써야 구분된다.
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+    private final long versionEpoch = System.currentTimeMillis();
+    private final HotKeyDetector hotKeyDetector;
+    // hot 유저의 잔액. 변경은 모두 유저 락 안에서 갱신하거나 지우므로 남아 있는 값은 항상 테이블과 같다.
+    private final ConcurrentHashMap<Long, UserPoint> pinnedPoints = new ConcurrentHashMap<>();
+    // hot 유저별로 락을 기다리는 충전/사용 요청
+    private final ConcurrentHashMap<Long, Queue<PendingUpdate>> pendingUpdates = new ConcurrentHashMap<>();
 
     public PointService(
             UserPointTable userPointTable,
             PointHistoryTable pointHistoryTable,
-            @Value("${point.max-charge-amount}") long maxChargeAmount
+            @Value("${point.max-charge-amount}") long maxChargeAmount,
+            List<PointChangeListener> listeners,
+            HotKeyDetector hotKeyDetector
     ) {
         this.userPointTable = userPointTable;
         this.pointHistoryTable = pointHistoryTable;
         this.maxChargeAmount = maxChargeAmount;
+        this.listeners = List.copyOf(listeners);
+        this.hotKeyDetector = hotKeyDetector;
+        hotKeyDetector.onCooled(this::demote);
     }
 
     public UserPoint findUserPointById(long userId) {
-        return userPointTable.selectById(userId);
+        UserPoint pinned = pinnedPoints.get(userId);
+        return pinned != null ? pinned : userPointTable.selectById(userId);
     }
 
     public List<PointHistory> loadPointHistories(long userId) {
@@ -50,39 +72,223 @@ public class PointService {
         } else if (amount > maxChargeAmount) {
             throw new InvalidAmountException("1회 충전 한도 초과: " + amount);
         }
-        UserPoint userPoint = updatePoint(userId, amount);
-        pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis()); // todo 따로 검증
-        return userPoint;
+        return updatePoint(userId, amount, TransactionType.CHARGE);
     }
 
     public UserPoint use(long userId, long amount) {
         if (amount <= 0) {
             throw new InvalidAmountException("유효하지 않은 포인트 사용 시도: " + amount);
         }
-        UserPoint userPoint = updatePoint(userId, amount * -1);
-        pointHistoryTable.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
-        return userPoint;
+        return updatePoint(userId, amount, TransactionType.USE);
     }
 
-    private UserPoint updatePoint(long userid, long delta) {
-        ReentrantLock lock = locks.computeIfAbsent(userid, id -> new ReentrantLock());
+    /**
+     * 해당 유저의 잔액/내역이 마지막으로 바뀐 버전 (변경 이력이 없으면 0)
+     * 변경이 테이블에 반영된 뒤에 올라가므로, 조회 전에 읽은 버전은 조회 결과보다 새로울 수 없다.
+     */
+    public long versionOf(long userId) {
+        return versions.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 버전 번호가 유효한 범위. 재시작하면 바뀐다.
+     */
+    public long versionEpoch() {
+        return versionEpoch;
+    }
+
+    /**
+     * 해당 유저의 충전/사용이 끼어들지 않는 상태에서 action 을 실행
+     */
+    public <T> T withUserLock(long userId, Supplier<T> action) {
+        ReentrantLock lock = lockOf(userId);
         lock.lock();
         try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 잔액 변경과 내역 기록을 같은 락 안에서 처리해 유저별 내역 순서가 잔액 변경 순서와 일치하도록 한다.
+     * 리스너도 락 안에서 호출되므로 유저별 변경 순서대로 전달된다.
+     * 요청이 몰리는 유저는 같은 락 안에서 여러 요청을 묶어 처리한다.
+     */
+    private UserPoint updatePoint(long userid, long amount, TransactionType type) {
+        if (hotKeyDetector.record(userid)) {
+            return combinedUpdate(userid, amount, type);
+        }
+        ReentrantLock lock = lockOf(userid);
+        lock.lock();
+        try {
+            pinnedPoints.remove(userid);
             long currentPoint = userPointTable.selectById(userid).point();
+            long updatedPoint = nextPoint(currentPoint, amount, type);
+            UserPoint userPoint = userPointTable.insertOrUpdate(userid, updatedPoint);
+            // 잔액은 이미 바뀌었으므로 내역 기록이 실패해도 버전을 올려 이전 ETag 로 304 가 나가지 않게 하고,
+            // 리스너에도 (내역 없이) 알려 리더보드/이벤트가 실제 잔액과 어긋나지 않게 함
+            versions.merge(userid, 1L, Long::sum);
+            PointHistory history = null;
             try {
-                long updatedPoint = Math.addExact(currentPoint, delta);
-                if (updatedPoint < 0) {
-                    throw new InsufficientPointException("포인트가 부족합니다.");
-                }
-                return userPointTable.insertOrUpdate(userid, updatedPoint);
-            } catch (ArithmeticException e) {
-                // 입력된 값이 너무 큰건지, 이미 있던 포인트가 거의 한계치에 다다른건지 알 수 없음
-                // 포인트가 넘치면 UserPoint를 여러개 가져야 하나?
-                throw new ExceedMaxChargeAmountException("포인트 값이 너무 커서 처리할 수 없습니다.");
+                history = pointHistoryTable.insert(userid, amount, type, System.currentTimeMillis());
+                return userPoint;
+            } finally {
+                notifyCommitted(userPoint, history);
             }
         } finally {
             lock.unlock();
         }
     }
 
+    /**
+     * hot 유저의 요청은 큐에 넣고 락을 잡은 스레드가 쌓인 요청을 한꺼번에 처리한다 (flat combining).
+     * 락을 얻었을 때 이미 다른 스레드가 처리했다면 결과만 가져간다.
+     */
+    private UserPoint combinedUpdate(long userId, long amount, TransactionType type) {
+        PendingUpdate update = new PendingUpdate(amount, type);
+        Queue<PendingUpdate> queue = pendingUpdates.computeIfAbsent(userId, id -> new ConcurrentLinkedQueue<>());
+        queue.add(update);
+        ReentrantLock lock = lockOf(userId);
+        lock.lock();
+        try {
+            if (!update.done) {
+                applyPending(userId, queue);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (update.failure != null) {
+            throw update.failure;
+        }
+        return update.result;
+    }
+
+    /**
+     * 고정된 잔액에서 요청을 순서대로 검증하고 잔액 저장은 묶음당 한 번만 한 뒤, 요청마다 내역을 남긴다.
+     * 잔액이 저장되기 전에는 내역을 쓰지 않으므로 잔액 조회/저장이 실패하면 묶음의 흔적이 남지 않는다.
+     * 잔액 저장 뒤 내역 기록에 실패한 요청은 일반 경로와 같이 잔액에 반영된 채로 실패를 돌려준다.
+     * 저장소 장애를 포함해 모든 실패는 요청별 결과로 돌려주고 이 메서드 밖으로 던지지 않는다.
+     */
+    private void applyPending(long userId, Queue<PendingUpdate> queue) {
+        List<PendingUpdate> polled = new ArrayList<>();
+        PendingUpdate next;
+        while ((next = queue.poll()) != null) {
+            polled.add(next);
+        }
+        List<PendingUpdate> accepted = new ArrayList<>(polled.size());
+        UserPoint stored;
+        try {
+            UserPoint pinned = pinnedPoints.get(userId);
+            long point = pinned != null ? pinned.point() : userPointTable.selectById(userId).point();
+            for (PendingUpdate update : polled) {
+                try {
+                    update.point = nextPoint(point, update.amount, update.type);
+                    point = update.point;
+                    accepted.add(update);
+                } catch (RuntimeException e) {
+                    update.fail(e);
+                }
+            }
+            if (accepted.isEmpty()) {
+                return;
+            }
+            stored = userPointTable.insertOrUpdate(userId, point);
+        } catch (RuntimeException e) {
+            // 잔액 조회/저장 실패는 묶음이 잔액에 반영되지 않은 것이므로 아직 끝나지 않은 요청을 모두 실패 처리
+            pinnedPoints.remove(userId);
+            for (PendingUpdate update : polled) {
+                if (!update.done) {
+                    update.fail(e);
+                }
+            }
+            return;
+        }
+        pinnedPoints.put(userId, stored);
+        // 잔액은 이미 바뀌었으므로 내역 기록 결과와 상관없이 버전을 올림
+        versions.merge(userId, (long) accepted.size(), Long::sum);
+        PendingUpdate last = accepted.get(accepted.size() - 1);
+        for (PendingUpdate applied : accepted) {
+            UserPoint userPoint = applied == last ? stored : new UserPoint(userId, applied.point, stored.updateMillis());
+            PointHistory history = null;
+            try {
+                history = pointHistoryTable.insert(userId, applied.amount, applied.type, System.currentTimeMillis());
+                applied.complete(userPoint);
+            } catch (RuntimeException e) {
+                applied.fail(e);
+            } finally {
+                notifyCommitted(userPoint, history);
+            }
+        }
+    }
+
+    /**
+     * hot 에서 해제된 유저를 일반 경로로 되돌림. 유저 락 안에서 남은 요청을 먼저 처리한 뒤 지운다.
+     */
+    private void demote(long userId) {
+        withUserLock(userId, () -> {
+            Queue<PendingUpdate> queue = pendingUpdates.remove(userId);
+            if (queue != null && !queue.isEmpty()) {
+                applyPending(userId, queue);
+            }
+            pinnedPoints.remove(userId);
+            return null;
+        });
+    }
+
+    private static long nextPoint(long currentPoint, long amount, TransactionType type) {
+        long delta = type == TransactionType.CHARGE ? amount : amount * -1;
+        try {
+            long updatedPoint = Math.addExact(currentPoint, delta);
+            if (updatedPoint < 0) {
+                throw new InsufficientPointException("포인트가 부족합니다.");
+            }
+            return updatedPoint;
+        } catch (ArithmeticException e) {
+            // 입력된 값이 너무 큰건지, 이미 있던 포인트가 거의 한계치에 다다른건지 알 수 없음
+            // 포인트가 넘치면 UserPoint를 여러개 가져야 하나?
+            throw new ExceedMaxChargeAmountException("포인트 값이 너무 커서 처리할 수 없습니다.");
+        }
+    }
+
+    private ReentrantLock lockOf(long userId) {
+        return locks.computeIfAbsent(userId, id -> new ReentrantLock());
+    }
+
+    // 이미 반영된 변경이므로 리스너 실패가 요청 실패로 이어지지 않게 함
+    private void notifyCommitted(UserPoint userPoint, PointHistory history) {
+        for (PointChangeListener listener : listeners) {
+            try {
+                listener.onCommitted(userPoint, history);
+            } catch (RuntimeException e) {
+                log.warn("포인트 변경 리스너 실패 - listener: {}, userId: {}", listener.getClass().getSimpleName(), userPoint.id(), e);
+            }
+        }
+    }
+
+    // 유저 락 안에서만 쓰고, 요청 스레드는 락을 다시 얻은 뒤에 읽으므로 별도 동기화가 필요 없음
+    private static final class PendingUpdate {
+        private final long amount;
+        private final TransactionType type;
+        private long point;
+        private boolean done;
+        private UserPoint result;
+        private RuntimeException failure;
+
+        private PendingUpdate(long amount, TransactionType type) {
+            this.amount = amount;
+            this.type = type;
+        }
+
+        private void complete(UserPoint result) {
+            this.result = result;
+            this.done = true;
+        }
+
+        private void fail(RuntimeException failure) {
+            this.failure = failure;
+            this.done = true;
+        }
+    }
+
 }
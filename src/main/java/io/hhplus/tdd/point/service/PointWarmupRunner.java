@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.config.PointWarmupProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 자기 자신에게 HTTP 요청을 보내 주요 경로를 실행
+ * (내장 서버는 컨텍스트 refresh 에서 이미 떠 있고, ApplicationRunner 가 모두 끝난 뒤에 ApplicationReadyEvent 가 발행된다)
+ *
+ * 필터, DispatcherServlet, Jackson, 실제 PointService 빈과 리스너까지 운영 요청과 같은 경로를 타므로
+ * JIT 가 실제 수신 타입으로 프로파일을 쌓는다. 예열 전용 유저 ID 에 충전과 사용을 같은 금액으로 반복해
+ * 잔액은 0 으로 돌아가고, 내역만 그 유저 ID 에 남는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.warmup", name = "enabled", havingValue = "true")
+public class PointWarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWarmupRunner.class);
+
+    private final PointWarmupProperties properties;
+    private final Environment environment;
+    private final PointPartitionService partitionService;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public PointWarmupRunner(
+            PointWarmupProperties properties,
+            Environment environment,
+            Optional<PointPartitionService> partitionService
+    ) {
+        this.properties = properties;
+        this.environment = environment;
+        this.partitionService = partitionService.orElse(null);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null) {
+            log.warn("내장 서버 포트를 알 수 없어 예열을 건너뜀");
+            return;
+        }
+        URI base = URI.create("http://localhost:" + port + "/point/" + warmupUserId());
+        long startedNanos = System.nanoTime();
+        for (int i = 0; i < properties.getIterations(); i++) {
+            send(patch(base, "charge", 1));
+            send(patch(base, "use", 1));
+            send(HttpRequest.newBuilder(base).GET().build());
+            if (i % properties.getHistoryReadInterval() == 0) {
+                send(HttpRequest.newBuilder(base.resolve(base.getPath() + "/histories")).GET().build());
+            }
+            // 400 응답을 만드는 예외 처리 경로
+            send(patch(base, "charge", 0));
+            send(patch(base, "use", Long.MAX_VALUE));
+        }
+        log.info("PointController 예열 완료 - iterations: {}, elapsed: {}ms",
+                properties.getIterations(), (System.nanoTime() - startedNanos) / 1_000_000);
+    }
+
+    /**
+     * 파티션 모드에서 설정된 유저를 다른 노드가 담당하면 요청이 전달되므로, 이 노드가 담당하는 가장 가까운 음수 ID 를 사용
+     */
+    private long warmupUserId() {
+        long userId = properties.getUserId();
+        if (partitionService == null) {
+            return userId;
+        }
+        while (!partitionService.isOwner(userId)) {
+            userId--;
+        }
+        return userId;
+    }
+
+    private static HttpRequest patch(URI base, String operation, long amount) {
+        return HttpRequest.newBuilder(base.resolve(base.getPath() + "/" + operation))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                .build();
+    }
+
+    private void send(HttpRequest request) throws IOException, InterruptedException {
+        httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+}
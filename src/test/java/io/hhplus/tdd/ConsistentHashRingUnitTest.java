@@ -0,0 +1,122 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.config.PointPartitionProperties;
+import io.hhplus.tdd.point.service.ConsistentHashRing;
+import io.hhplus.tdd.point.service.PointPartitionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConsistentHashRingUnitTest {
+
+    private static final int USER_COUNT = 100_000;
+    private static final int VIRTUAL_NODES = 128;
+
+    @Test
+    @DisplayName("같은 노드 구성이면 어느 인스턴스에서 만들어도 소유자가 같음")
+    void ownerOf_whenSameNodes_thenDeterministic() {
+        List<String> nodes = List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083");
+        ConsistentHashRing first = new ConsistentHashRing(nodes, VIRTUAL_NODES);
+        ConsistentHashRing second = new ConsistentHashRing(List.of(nodes.get(2), nodes.get(0), nodes.get(1)), VIRTUAL_NODES);
+
+        for (long userId = 0; userId < 1000; userId++) {
+            assertThat(first.ownerOf(userId)).isEqualTo(second.ownerOf(userId));
+        }
+    }
+
+    @Test
+    @DisplayName("유저가 노드들에 고르게 분산")
+    void ownerOf_whenManyUsers_thenEvenlyDistributed() {
+        List<String> nodes = List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083", "http://localhost:8084");
+        ConsistentHashRing ring = new ConsistentHashRing(nodes, VIRTUAL_NODES);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            counts.merge(ring.ownerOf(userId), 1, Integer::sum);
+        }
+
+        double expected = (double) USER_COUNT / nodes.size();
+        assertThat(counts).hasSize(nodes.size());
+        counts.values().forEach(count -> assertThat((double) count).isBetween(expected * 0.7, expected * 1.3));
+    }
+
+    @Test
+    @DisplayName("노드 추가 시 새 노드로 옮겨가는 유저만 소유자가 바뀜")
+    void ownerOf_whenNodeAdded_thenOnlyFractionMoves() {
+        List<String> nodes = List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083");
+        String added = "http://localhost:8084";
+        ConsistentHashRing before = new ConsistentHashRing(nodes, VIRTUAL_NODES);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(nodes.get(0), nodes.get(1), nodes.get(2), added), VIRTUAL_NODES);
+
+        int moved = 0;
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            String previousOwner = before.ownerOf(userId);
+            String currentOwner = after.ownerOf(userId);
+            if (!previousOwner.equals(currentOwner)) {
+                assertThat(currentOwner).isEqualTo(added);
+                moved++;
+            }
+        }
+
+        assertThat((double) moved / USER_COUNT).isBetween(0.15, 0.35); // 이상적으로는 1/4
+    }
+
+    @Test
+    @DisplayName("노드 제거 시 제거된 노드의 유저만 남은 노드들로 옮겨감")
+    void ownerOf_whenNodeRemoved_thenOnlyRemovedNodesUsersMove() {
+        List<String> nodes = List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083", "http://localhost:8084");
+        String removed = nodes.get(3);
+        ConsistentHashRing before = new ConsistentHashRing(nodes, VIRTUAL_NODES);
+        ConsistentHashRing after = new ConsistentHashRing(nodes.subList(0, 3), VIRTUAL_NODES);
+
+        Map<String, Integer> receivers = new HashMap<>();
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            String previousOwner = before.ownerOf(userId);
+            String currentOwner = after.ownerOf(userId);
+            if (previousOwner.equals(removed)) {
+                receivers.merge(currentOwner, 1, Integer::sum);
+            } else {
+                assertThat(currentOwner).isEqualTo(previousOwner);
+            }
+        }
+
+        // 제거된 노드의 유저는 한 노드로 몰리지 않고 남은 노드들에 나뉨
+        assertThat(receivers).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("멤버 변경 후 소유권이 새 링 기준으로 바뀜")
+    void rebalance_whenNodeAdded_thenOwnershipFollowsNewRing() {
+        List<String> nodes = List.of("http://localhost:8081", "http://localhost:8082");
+        String added = "http://localhost:8083";
+        PointPartitionProperties properties = new PointPartitionProperties();
+        properties.setSelf(nodes.get(0));
+        properties.setNodes(nodes);
+        properties.setVirtualNodes(VIRTUAL_NODES);
+        PointPartitionService partitionService = new PointPartitionService(properties);
+        ConsistentHashRing expected = new ConsistentHashRing(List.of(nodes.get(0), nodes.get(1), added), VIRTUAL_NODES);
+
+        partitionService.rebalance(List.of(nodes.get(0), nodes.get(1), added));
+
+        assertThat(partitionService.nodes()).containsExactlyInAnyOrder(nodes.get(0), nodes.get(1), added);
+        for (long userId = 0; userId < 1000; userId++) {
+            assertThat(partitionService.ownerOf(userId)).isEqualTo(expected.ownerOf(userId));
+            assertThat(partitionService.isOwner(userId)).isEqualTo(nodes.get(0).equals(expected.ownerOf(userId)));
+        }
+        assertThatThrownBy(() -> partitionService.rebalance(List.of(nodes.get(1), added)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드가 없으면 링 생성 실패")
+    void create_whenNoNodes_throwsException() {
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), VIRTUAL_NODES))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
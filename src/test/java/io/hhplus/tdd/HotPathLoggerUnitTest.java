@@ -0,0 +1,172 @@
+package io.hhplus.tdd;
+
+import ch.qos.logback.classic.Level;
+import io.hhplus.tdd.config.PointHotKeyProperties;
+import io.hhplus.tdd.config.PointLoggingProperties;
+import io.hhplus.tdd.database.latency.FixedLatency;
+import io.hhplus.tdd.database.latency.LatencyModelPointHistoryTable;
+import io.hhplus.tdd.database.latency.LatencyModelUserPointTable;
+import io.hhplus.tdd.point.controller.ConditionalGetTracker;
+import io.hhplus.tdd.point.controller.HotPathLogger;
+import io.hhplus.tdd.point.controller.HotPathLogger.Endpoint;
+import io.hhplus.tdd.point.controller.PointController;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.HotKeyDetector;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HotPathLoggerUnitTest {
+
+    private static final int REQUEST_COUNT = 100_000;
+    private static final int ROUNDS = 10;
+    // 요청당 박싱 하나만 남아도 16 바이트이므로, 1 바이트 미만이면 요청마다 할당하는 코드가 없다고 본다
+    private static final double ALLOWED_BYTES_PER_REQUEST = 1.0;
+
+    @Test
+    @DisplayName("비율을 지정하지 않은 엔드포인트는 모두 기록")
+    void sample_whenRateNotConfigured_thenAlwaysSampled() {
+        HotPathLogger hotPathLogger = new HotPathLogger(new PointLoggingProperties());
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(hotPathLogger.sample(Endpoint.CHARGE)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("비율이 0 이면 기록하지 않음")
+    void sample_whenRateIsZero_thenNeverSampled() {
+        HotPathLogger hotPathLogger = new HotPathLogger(properties(Map.of("use", 0.0)));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(hotPathLogger.sample(Endpoint.USE)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("샘플링 비율만큼만 기록")
+    void sample_whenRateConfigured_thenSampledAtRate() {
+        HotPathLogger hotPathLogger = new HotPathLogger(properties(Map.of("charge", 0.1)));
+
+        int sampled = 0;
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            if (hotPathLogger.sample(Endpoint.CHARGE)) {
+                sampled++;
+            }
+        }
+
+        assertThat((double) sampled / REQUEST_COUNT).isBetween(0.09, 0.11);
+    }
+
+    /**
+     * 기존 방식(log.info 에 long 인자 두 개)은 요청마다 박싱과 varargs 배열을 만들지만,
+     * 샘플링되지 않은 요청은 아무것도 할당하지 않아야 함
+     */
+    @Test
+    @DisplayName("샘플링되지 않은 요청은 힙 할당이 없음")
+    void sample_whenNotSampled_thenNoAllocation() {
+        HotPathLogger hotPathLogger = new HotPathLogger(properties(Map.of("charge", 0.0)));
+        simulateRequests(hotPathLogger); // JIT 예열
+
+        double allocated = minAllocatedPerRequest(() -> simulateRequests(hotPathLogger));
+
+        assertThat(allocated).isLessThan(ALLOWED_BYTES_PER_REQUEST);
+    }
+
+    /**
+     * 변경 전 컨트롤러처럼 모든 요청을 파라미터 로그로 남기는 경우와 비교.
+     * 변경 전 쪽은 appender 가 없는 로거로 재서 출력 비용을 뺀, 요청당 할당량의 하한이다.
+     */
+    @Test
+    @DisplayName("변경 전 파라미터 로그는 요청마다 할당하고, 샘플링되지 않은 요청은 할당이 없음")
+    void request_whenComparedToParameterizedLogging_thenAllocationRemoved() {
+        // given
+        ch.qos.logback.classic.Logger legacy = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("hot-path-legacy");
+        legacy.setLevel(Level.INFO);
+        legacy.setAdditive(false);
+        HotPathLogger hotPathLogger = new HotPathLogger(properties(Map.of("charge", 0.0)));
+        simulateLegacyRequests(legacy); // JIT 예열
+        simulateRequests(hotPathLogger);
+
+        // when
+        double legacyAllocated = minAllocatedPerRequest(() -> simulateLegacyRequests(legacy));
+        double sampledAllocated = minAllocatedPerRequest(() -> simulateRequests(hotPathLogger));
+
+        // then
+        assertThat(legacyAllocated).isGreaterThanOrEqualTo(32);
+        assertThat(sampledAllocated).isLessThan(ALLOWED_BYTES_PER_REQUEST);
+    }
+
+    @Test
+    @DisplayName("컨트롤러의 샘플링되지 않은 요청은 로그 처리 때문에 할당하지 않음")
+    void charge_whenNotSampled_thenControllerAllocatesNothing() {
+        // given
+        UserPoint charged = new UserPoint(1L, 1000L, 0L);
+        PointService pointService = new PointService(
+                new LatencyModelUserPointTable(new FixedLatency(0), new FixedLatency(0)),
+                new LatencyModelPointHistoryTable(new FixedLatency(0), new FixedLatency(0)),
+                Long.MAX_VALUE, List.of(), new HotKeyDetector(new PointHotKeyProperties())) {
+            @Override
+            public UserPoint charge(long userId, long amount) {
+                return charged;
+            }
+        };
+        PointController pointController = new PointController(
+                pointService, new HotPathLogger(properties(Map.of("charge", 0.0))), new ConditionalGetTracker());
+        simulateCharges(pointController); // JIT 예열
+
+        // when
+        double allocated = minAllocatedPerRequest(() -> simulateCharges(pointController));
+
+        // then
+        assertThat(allocated).isLessThan(ALLOWED_BYTES_PER_REQUEST);
+    }
+
+    /**
+     * requests 를 ROUNDS 번 실행해 요청당 할당량이 가장 적은 회차의 값을 반환.
+     * JIT 컴파일이나 역최적화가 낀 회차는 일시적으로 할당이 튈 수 있어 한 번만 재면 흔들린다.
+     */
+    private static double minAllocatedPerRequest(Runnable requests) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long min = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            requests.run();
+            min = Math.min(min, threadMXBean.getCurrentThreadAllocatedBytes() - before);
+        }
+        return (double) min / REQUEST_COUNT;
+    }
+
+    private static void simulateCharges(PointController pointController) {
+        for (long userId = 0; userId < REQUEST_COUNT; userId++) {
+            pointController.charge(userId + 1_000, 1000L);
+        }
+    }
+
+    private static void simulateLegacyRequests(Logger legacy) {
+        for (long userId = 0; userId < REQUEST_COUNT; userId++) {
+            // userId 가 커서 Long 캐시에 걸리지 않으므로 매번 박싱됨
+            legacy.info("[PATCH /point/{}/charge] 포인트 충전 요청 - amount: {}", userId + 1_000, 1000L);
+        }
+    }
+
+    private static void simulateRequests(HotPathLogger hotPathLogger) {
+        for (long userId = 0; userId < REQUEST_COUNT; userId++) {
+            hotPathLogger.begin(Endpoint.CHARGE, userId, 1000L);
+        }
+    }
+
+    private static PointLoggingProperties properties(Map<String, Double> sampleRates) {
+        PointLoggingProperties properties = new PointLoggingProperties();
+        properties.setSampleRates(sampleRates);
+        return properties;
+    }
+}
@@ -0,0 +1,124 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.latency.BimodalLatency;
+import io.hhplus.tdd.database.latency.FaultInjectingLatency;
+import io.hhplus.tdd.database.latency.FixedLatency;
+import io.hhplus.tdd.database.latency.LatencyModel;
+import io.hhplus.tdd.database.latency.LatencyModelPointHistoryTable;
+import io.hhplus.tdd.database.latency.LatencyModelUserPointTable;
+import io.hhplus.tdd.database.latency.LogNormalLatency;
+import io.hhplus.tdd.database.latency.UniformLatency;
+import io.hhplus.tdd.error.StorageFaultException;
+import io.hhplus.tdd.point.model.TransactionType;
+import io.hhplus.tdd.point.model.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LatencyModelTableUnitTest {
+
+    private static final LatencyModel NONE = new FixedLatency(0);
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    @DisplayName("연산별로 주입한 지연만큼 Table 호출이 걸림")
+    void insertOrUpdate_whenFixedLatency_thenWaitsAtLeastThatLong() {
+        // given
+        LatencyModelUserPointTable table = new LatencyModelUserPointTable(NONE, new FixedLatency(20_000));
+
+        // when
+        long startedNanos = System.nanoTime();
+        table.insertOrUpdate(1L, 1000L);
+        long elapsedMicros = (System.nanoTime() - startedNanos) / 1_000;
+
+        // then
+        assertThat(elapsedMicros).isGreaterThanOrEqualTo(20_000);
+        assertThat(table.selectById(1L).point()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("장애가 나면 StorageFaultException 을 던지고 쓰기는 반영되지 않음")
+    void insertOrUpdate_whenFault_thenThrowsAndDoesNotWrite() {
+        // given
+        LatencyModelUserPointTable table = new LatencyModelUserPointTable(NONE, new FaultInjectingLatency(NONE, 1.0));
+
+        // when & then
+        assertThatThrownBy(() -> table.insertOrUpdate(1L, 1000L))
+                .isInstanceOf(StorageFaultException.class);
+        assertThat(table.selectById(1L)).isEqualTo(UserPoint.empty(1L));
+    }
+
+    @Test
+    @DisplayName("내역 insert 장애도 StorageFaultException 이며 내역이 남지 않음")
+    void insert_whenFault_thenThrowsAndDoesNotRecord() {
+        // given
+        LatencyModelPointHistoryTable table = new LatencyModelPointHistoryTable(new FaultInjectingLatency(NONE, 1.0), NONE);
+
+        // when & then
+        assertThatThrownBy(() -> table.insert(1L, 1000L, TransactionType.CHARGE, 0L))
+                .isInstanceOf(StorageFaultException.class);
+        assertThat(table.selectAllByUserId(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("장애 비율만큼만 실패")
+    void await_whenFaultRate_thenFailsAtThatRate() {
+        // given
+        LatencyModel model = new FaultInjectingLatency(NONE, 0.1);
+
+        // when
+        int faults = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            try {
+                model.await();
+            } catch (StorageFaultException e) {
+                faults++;
+            }
+        }
+
+        // then
+        assertThat((double) faults / SAMPLES).isBetween(0.09, 0.11);
+    }
+
+    @Test
+    @DisplayName("균등 분포는 [0, max) 범위에서 평균이 max / 2 근처")
+    void nextDelayMicros_whenUniform_thenWithinRange() {
+        long[] delays = sample(new UniformLatency(1_000));
+
+        assertThat(Arrays.stream(delays).min().orElseThrow()).isGreaterThanOrEqualTo(0L);
+        assertThat(Arrays.stream(delays).max().orElseThrow()).isLessThan(1_000L);
+        assertThat(Arrays.stream(delays).average().orElseThrow()).isBetween(475.0, 525.0);
+    }
+
+    @Test
+    @DisplayName("로그 정규 분포는 중앙값이 설정값 근처이고 긴 꼬리가 있음")
+    void nextDelayMicros_whenLogNormal_thenMedianAndTail() {
+        long[] delays = sample(new LogNormalLatency(1_000, 1.0));
+        Arrays.sort(delays);
+
+        assertThat(delays[SAMPLES / 2]).isBetween(950L, 1_050L);
+        assertThat(delays[SAMPLES * 99 / 100]).isGreaterThan(delays[SAMPLES / 2] * 5);
+    }
+
+    @Test
+    @DisplayName("이봉 분포는 느린 응답이 slowRatio 비율로 섞임")
+    void nextDelayMicros_whenBimodal_thenSlowRatio() {
+        long[] delays = sample(new BimodalLatency(new FixedLatency(10), new FixedLatency(10_000), 0.2));
+
+        long slow = Arrays.stream(delays).filter(delay -> delay == 10_000).count();
+        assertThat(delays).containsOnly(10L, 10_000L);
+        assertThat((double) slow / SAMPLES).isBetween(0.19, 0.21);
+    }
+
+    private static long[] sample(LatencyModel model) {
+        long[] delays = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            delays[i] = model.nextDelayMicros();
+        }
+        return delays;
+    }
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.service.PointPartitionService;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임의 포트에 두 인스턴스를 띄우고 같은 고정 멤버 목록으로 링을 구성해 요청 전달을 확인
+ */
+public class PartitionRoutingIntegrationTest {
+
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static String addressA;
+    private static String addressB;
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        int portA = freePort();
+        int portB = freePort();
+        addressA = "http://localhost:" + portA;
+        addressB = "http://localhost:" + portB;
+        nodeA = start(portA, addressA);
+        nodeB = start(portB, addressB);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 소유한 유저의 충전은 소유자에게 전달되어 소유자에만 반영")
+    void charge_whenUserOwnedByOtherNode_thenForwardedToOwner() throws Exception {
+        // given
+        long userId = firstUserOwnedBy(nodeB, 1L);
+
+        // when
+        HttpResponse<String> response = send(addressA, "PATCH", "/point/" + userId + "/charge", "1000", false);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"point\":1000");
+        assertThat(nodeB.getBean(PointService.class).findUserPointById(userId).point()).isEqualTo(1000L);
+        assertThat(nodeA.getBean(PointService.class).findUserPointById(userId).point()).isZero();
+    }
+
+    @Test
+    @DisplayName("음수 유저 ID 도 소유자에게 전달")
+    void find_whenNegativeUserOwnedByOtherNode_thenForwardedToOwner() throws Exception {
+        // given
+        long userId = firstUserOwnedBy(nodeB, -1L);
+        send(addressB, "PATCH", "/point/" + userId + "/charge", "300", false);
+
+        // when
+        HttpResponse<String> response = send(addressA, "GET", "/point/" + userId, null, false);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"point\":300");
+    }
+
+    @Test
+    @DisplayName("전달된 요청이 소유자가 아닌 인스턴스에 도착하면 다시 전달하지 않고 409")
+    void find_whenForwardedRequestArrivesAtNonOwner_thenConflict() throws Exception {
+        // given
+        long userId = firstUserOwnedBy(nodeB, 1L);
+
+        // when
+        HttpResponse<String> response = send(addressA, "GET", "/point/" + userId, null, true);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(409);
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 유저 ID 는 라우팅하지 않고 400")
+    void find_whenUserIdOverflowsLong_thenBadRequest() throws Exception {
+        // when
+        HttpResponse<String> response = send(addressA, "GET", "/point/99999999999999999999", null, false);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(400);
+    }
+
+    private static ConfigurableApplicationContext start(int port, String self) {
+        return new SpringApplicationBuilder(TddApplication.class).run(
+                "--server.port=" + port,
+                "--point.partition.enabled=true",
+                "--point.partition.self=" + self,
+                "--point.partition.nodes=" + addressA + "," + addressB);
+    }
+
+    // 두 인스턴스가 같은 멤버 목록으로 링을 만들므로 어느 쪽에서 물어도 소유자가 같음
+    private static long firstUserOwnedBy(ConfigurableApplicationContext node, long step) {
+        PointPartitionService partitionService = node.getBean(PointPartitionService.class);
+        long userId = step;
+        while (!partitionService.isOwner(userId)) {
+            userId += step;
+        }
+        return userId;
+    }
+
+    private static HttpResponse<String> send(String address, String method, String path, String body, boolean forwarded)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(address + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (forwarded) {
+            builder.header("X-Point-Forwarded", "test");
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
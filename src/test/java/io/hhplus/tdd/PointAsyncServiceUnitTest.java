@@ -0,0 +1,118 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.config.PointAsyncProperties;
+import io.hhplus.tdd.error.InsufficientPointException;
+import io.hhplus.tdd.error.TooManyPendingRequestsException;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+
+public class PointAsyncServiceUnitTest {
+
+    private final PointService pointService = mock(PointService.class);
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    private PointAsyncService pointAsyncService;
+
+    @BeforeEach
+    public void setUp() {
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+        PointAsyncProperties properties = new PointAsyncProperties();
+        properties.setMaxPendingPerUser(3);
+        pointAsyncService = new PointAsyncService(pointService, executor, properties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 요청은 들어온 순서대로 실행")
+    void charge_whenSameUser_thenExecutedInOrder() {
+        // given
+        long userId = 1L;
+        int requestCount = 20;
+        List<Long> executed = Collections.synchronizedList(new ArrayList<>());
+        given(pointService.charge(eq(userId), anyLong())).willAnswer(invocation -> {
+            long amount = invocation.getArgument(1);
+            Thread.sleep(5);
+            executed.add(amount);
+            return new UserPoint(userId, amount, System.currentTimeMillis());
+        });
+
+        // when
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (long amount = 1; amount <= requestCount; amount++) {
+            futures.add(pointAsyncService.charge(userId, amount));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(executed).hasSize(requestCount).isSorted();
+    }
+
+    @Test
+    @DisplayName("앞선 요청이 실패해도 다음 요청은 실행")
+    void use_whenPreviousFails_thenNextStillRuns() {
+        // given
+        long userId = 2L;
+        given(pointService.use(userId, 1000L)).willThrow(new InsufficientPointException("포인트가 부족합니다."));
+        given(pointService.use(userId, 10L)).willReturn(new UserPoint(userId, 0L, System.currentTimeMillis()));
+
+        // when
+        CompletableFuture<UserPoint> failed = pointAsyncService.use(userId, 1000L);
+        CompletableFuture<UserPoint> succeeded = pointAsyncService.use(userId, 10L);
+
+        // then
+        assertThatThrownBy(failed::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InsufficientPointException.class);
+        assertThat(succeeded.join().point()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("한 유저의 대기 요청이 상한에 도달하면 거절하고, 처리된 만큼 다시 받음")
+    void charge_whenPendingReachesLimit_thenRejected() throws InterruptedException {
+        // given
+        long userId = 3L;
+        CountDownLatch release = new CountDownLatch(1);
+        given(pointService.charge(eq(userId), anyLong())).willAnswer(invocation -> {
+            release.await();
+            return new UserPoint(userId, invocation.getArgument(1), System.currentTimeMillis());
+        });
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (long amount = 1; amount <= 3; amount++) {
+            futures.add(pointAsyncService.charge(userId, amount));
+        }
+
+        // when & then
+        assertThatThrownBy(() -> pointAsyncService.charge(userId, 4L))
+                .isInstanceOf(TooManyPendingRequestsException.class);
+
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        assertThat(pointAsyncService.charge(userId, 5L).join().point()).isEqualTo(5L);
+    }
+}
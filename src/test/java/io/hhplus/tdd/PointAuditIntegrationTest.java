@@ -0,0 +1,65 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.model.PointAuditMismatch;
+import io.hhplus.tdd.point.model.PointAuditReport;
+import io.hhplus.tdd.point.service.PointAuditService;
+import io.hhplus.tdd.point.service.PointService;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest()
+public class PointAuditIntegrationTest {
+
+    // 다른 통합 테스트와 같은 컨텍스트를 공유하므로 겹치지 않는 ID 대역을 사용
+    private static final long USER_ID_BASE = 1_000_000L;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointAuditService pointAuditService;
+
+    @Autowired
+    private UserPointTable userPointTable;
+
+    @Test
+    @DisplayName("충전/사용 내역 합계와 잔액이 같으면 불일치 없음")
+    void audit_whenBalancesMatchHistories_thenNoMismatch() {
+        // given
+        long userId = USER_ID_BASE + 1;
+        pointService.charge(userId, 5000L);
+        pointService.use(userId, 2000L);
+        pointService.charge(userId, 1000L);
+
+        // when
+        PointAuditReport report = pointAuditService.audit();
+
+        // then
+        assertThat(report.completed()).isTrue();
+        assertThat(report.mismatches()).extracting(PointAuditMismatch::userId).doesNotContain(userId);
+    }
+
+    @Test
+    @DisplayName("내역 없이 잔액만 바뀐 유저는 불일치로 보고")
+    void audit_whenBalanceChangedWithoutHistory_thenReportsMismatch() {
+        // given
+        long userId = USER_ID_BASE + 2;
+        pointService.charge(userId, 3000L);
+        userPointTable.insertOrUpdate(userId, 9999L);
+
+        // when
+        PointAuditReport report = pointAuditService.audit();
+
+        // then
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(report.completed()).isTrue();
+        softly.assertThat(report.mismatches()).contains(new PointAuditMismatch(userId, 3000L, 9999L));
+        softly.assertAll();
+    }
+}
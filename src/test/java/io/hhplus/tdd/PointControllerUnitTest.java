@@ -1,5 +1,9 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.config.PointLoggingProperties;
+import io.hhplus.tdd.error.StorageFaultException;
+import io.hhplus.tdd.point.controller.ConditionalGetTracker;
+import io.hhplus.tdd.point.controller.HotPathLogger;
 import io.hhplus.tdd.point.controller.PointController;
 import io.hhplus.tdd.point.model.PointHistory;
 import io.hhplus.tdd.point.model.TransactionType;
@@ -10,6 +14,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -17,14 +23,18 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
 // 컨트롤러 자체의 책임 범위를 검증
 @WebMvcTest(PointController.class)
+@Import({HotPathLogger.class, PointLoggingProperties.class, ConditionalGetTracker.class})
 public class PointControllerUnitTest {
 
     @Autowired
@@ -74,6 +84,54 @@ public class PointControllerUnitTest {
 
     }
 
+    @Test
+    public void testPointNotModified() throws Exception {
+        // given
+        long userId = 1;
+        given(pointService.versionEpoch()).willReturn(1L);
+        given(pointService.versionOf(userId)).willReturn(3L);
+        given(pointService.findUserPointById(userId)).willReturn(UserPoint.empty(userId));
+        String urlTemplate = String.format("/point/%d", userId);
+
+        // when + then
+        String etag = mockMvc.perform(get(urlTemplate))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(urlTemplate).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        verify(pointService).findUserPointById(userId);
+    }
+
+    @Test
+    public void testHistoriesNotModified() throws Exception {
+        // given
+        long userId = 1;
+        given(pointService.versionEpoch()).willReturn(1L);
+        given(pointService.versionOf(userId)).willReturn(3L);
+        String urlTemplate = String.format("/point/%d/histories", userId);
+
+        // when + then
+        mockMvc.perform(get(urlTemplate).header(HttpHeaders.IF_NONE_MATCH, "W/\"1-3\""))
+                .andExpect(status().isNotModified());
+        verify(pointService, never()).loadPointHistories(userId);
+    }
+
+    @Test
+    public void testHistoriesModified() throws Exception {
+        // given
+        long userId = 1;
+        given(pointService.versionEpoch()).willReturn(1L);
+        given(pointService.versionOf(userId)).willReturn(4L);
+        given(pointService.loadPointHistories(userId)).willReturn(List.of());
+        String urlTemplate = String.format("/point/%d/histories", userId);
+
+        // when + then
+        mockMvc.perform(get(urlTemplate).header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""));
+    }
+
     @Test
     public void testCharge() throws Exception {
         // given
@@ -110,4 +168,21 @@ public class PointControllerUnitTest {
                 .andExpect(jsonPath("$.point").value(amount));
     }
 
+    @Test
+    public void testChargeStorageFault() throws Exception {
+        // given
+        long userId = 1;
+        long amount = 1000L;
+        String urlTemplate = String.format("/point/%d/charge", userId);
+        given(pointService.charge(userId, amount)).willThrow(new StorageFaultException("스토리지 장애가 발생했습니다."));
+
+        // when + then
+        mockMvc.perform(patch(urlTemplate)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(amount)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("503"))
+                .andExpect(jsonPath("$.message").value("스토리지 장애가 발생했습니다."));
+    }
+
 }
\ No newline at end of file
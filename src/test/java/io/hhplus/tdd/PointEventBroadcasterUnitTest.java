@@ -0,0 +1,208 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.config.PointEventProperties;
+import io.hhplus.tdd.point.model.PointEvent;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.PointEventBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PointEventBroadcasterUnitTest {
+
+    private PointEventBroadcaster broadcaster;
+
+    @AfterEach
+    public void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("전체 구독자는 모든 이벤트를, 유저 구독자는 해당 유저 이벤트만 순서대로 받음")
+    void subscribe_whenEventsPublished_thenFannedOutToEverySubscriber() throws Exception {
+        // given
+        broadcaster = new PointEventBroadcaster(properties(64, 60_000));
+        RecordingEmitter first = subscribe(null, null);
+        RecordingEmitter second = subscribe(null, null);
+        RecordingEmitter userOne = subscribe(1L, null);
+
+        // when
+        publish(1L, 2L, 1L);
+
+        // then
+        await(() -> first.events.size() == 3 && second.events.size() == 3 && userOne.events.size() == 2);
+        assertThat(first.userIds()).containsExactly(1L, 2L, 1L);
+        assertThat(second.userIds()).containsExactly(1L, 2L, 1L);
+        assertThat(userOne.userIds()).containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("전송이 멈춘 구독자는 제거되고 다른 구독자는 계속 받음")
+    void dispatch_whenSubscriberStalls_thenOthersProceedAndStalledIsEvicted() throws Exception {
+        // given
+        broadcaster = new PointEventBroadcaster(properties(64, 200));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stalled = subscribe(null, release);
+        RecordingEmitter healthy = subscribe(null, null);
+
+        // when
+        publish(1L);
+        await(() -> healthy.events.size() == 1);
+        publish(2L, 3L);
+
+        // then
+        await(() -> healthy.events.size() == 3);
+        await(() -> broadcaster.subscriberCount() == 1);
+        assertThat(stalled.failed).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("인터럽트에도 돌아오지 않는 구독자가 전송 스레드보다 많아도 다른 구독자는 계속 받음")
+    void dispatch_whenMoreSubscribersStallThanSenderThreads_thenOthersProceed() throws Exception {
+        // given
+        PointEventProperties properties = properties(64, 100);
+        properties.setSenderThreads(2);
+        broadcaster = new PointEventBroadcaster(properties);
+        CountDownLatch release = new CountDownLatch(1);
+        List<RecordingEmitter> stalled = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            stalled.add(subscribe(null, release, false));
+        }
+        RecordingEmitter healthy = subscribe(null, null);
+
+        // when
+        publish(1L, 2L, 3L);
+
+        // then
+        await(() -> healthy.events.size() == 3);
+        await(() -> broadcaster.subscriberCount() == 1);
+        release.countDown();
+        await(() -> stalled.stream().allMatch(emitter -> emitter.failed));
+        publish(4L);
+        await(() -> healthy.events.size() == 4);
+    }
+
+    @Test
+    @DisplayName("링 버퍼를 한 바퀴 이상 뒤처진 구독자는 제거")
+    void dispatch_whenSubscriberLapped_thenEvicted() throws Exception {
+        // given
+        broadcaster = new PointEventBroadcaster(properties(8, 60_000));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter lagging = subscribe(null, release);
+        publish(1L);
+        await(() -> lagging.sending);
+
+        // when
+        for (long userId = 2; userId <= 20; userId++) {
+            publish(userId);
+        }
+        release.countDown();
+
+        // then
+        await(() -> broadcaster.subscriberCount() == 0);
+        assertThat(lagging.failed).isTrue();
+        assertThat(lagging.events.size()).isLessThan(20);
+    }
+
+    private RecordingEmitter subscribe(Long userId, CountDownLatch release) {
+        return subscribe(userId, release, true);
+    }
+
+    private RecordingEmitter subscribe(Long userId, CountDownLatch release, boolean interruptible) {
+        RecordingEmitter emitter = new RecordingEmitter(release, interruptible);
+        broadcaster.subscribe(userId, emitter);
+        return emitter;
+    }
+
+    private void publish(long... userIds) {
+        for (long userId : userIds) {
+            broadcaster.onCommitted(new UserPoint(userId, 1000L, 0L), null);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static PointEventProperties properties(int bufferSize, long sendTimeoutMillis) {
+        PointEventProperties properties = new PointEventProperties();
+        properties.setBufferSize(bufferSize);
+        properties.setDispatchIntervalMillis(10);
+        properties.setSendTimeoutMillis(sendTimeoutMillis);
+        return properties;
+    }
+
+    /**
+     * 보낸 이벤트를 기록하는 emitter. release 가 있으면 첫 전송에서 풀릴 때까지 멈춤
+     * interruptible 이 아니면 소켓 쓰기처럼 인터럽트에도 돌아오지 않음
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<PointEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private final boolean interruptible;
+        private volatile boolean sending;
+        private volatile boolean failed;
+
+        private RecordingEmitter(CountDownLatch release, boolean interruptible) {
+            this.release = release;
+            this.interruptible = interruptible;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending = true;
+            if (release != null) {
+                awaitRelease();
+            }
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof PointEvent event) {
+                    events.add(event);
+                }
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed = true;
+        }
+
+        private void awaitRelease() throws IOException {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    if (interruptible) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(e);
+                    }
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private List<Long> userIds() {
+            return events.stream().map(event -> event.userPoint().id()).toList();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.model.PointEvent;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.PointEventRingBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PointEventRingBufferUnitTest {
+
+    @Test
+    @DisplayName("발행한 순서대로 시퀀스가 매겨지고 읽힘")
+    void read_whenPublished_returnsEventsInOrder() {
+        // given
+        PointEventRingBuffer ringBuffer = new PointEventRingBuffer(8);
+
+        // when
+        for (long userId = 1; userId <= 3; userId++) {
+            ringBuffer.publish(new UserPoint(userId, 1000L, 0L), null);
+        }
+
+        // then
+        assertThat(ringBuffer.head()).isEqualTo(3);
+        for (long sequence = 0; sequence < 3; sequence++) {
+            PointEvent event = ringBuffer.read(sequence);
+            assertThat(event.sequence()).isEqualTo(sequence);
+            assertThat(event.userPoint().id()).isEqualTo(sequence + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("아직 발행되지 않은 시퀀스는 null")
+    void read_whenNotPublished_returnsNull() {
+        PointEventRingBuffer ringBuffer = new PointEventRingBuffer(8);
+
+        assertThat(ringBuffer.read(0)).isNull();
+    }
+
+    @Test
+    @DisplayName("한 바퀴 이상 덮어쓰인 시퀀스는 건너뛰어야 함")
+    void read_whenOverwritten_throwsLapped() {
+        // given
+        PointEventRingBuffer ringBuffer = new PointEventRingBuffer(4);
+
+        // when
+        for (int i = 0; i < ringBuffer.capacity() + 2; i++) {
+            ringBuffer.publish(new UserPoint(i, i, 0L), null);
+        }
+
+        // then
+        assertThat(ringBuffer.oldestAvailable()).isEqualTo(2);
+        assertThatThrownBy(() -> ringBuffer.read(0)).isInstanceOf(PointEventRingBuffer.LappedException.class);
+        assertThat(ringBuffer.read(2).userPoint().point()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버퍼 크기는 2의 거듭제곱으로 올림")
+    void capacity_whenNotPowerOfTwo_roundsUp() {
+        assertThat(new PointEventRingBuffer(5).capacity()).isEqualTo(8);
+        assertThat(new PointEventRingBuffer(4096).capacity()).isEqualTo(4096);
+    }
+}
@@ -0,0 +1,121 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.config.PointExportProperties;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.BalanceVersionStore;
+import io.hhplus.tdd.point.service.PointExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PointExportServiceUnitTest {
+
+    private final BalanceVersionStore balanceVersionStore = new BalanceVersionStore();
+
+    @Test
+    @DisplayName("스냅샷 이후의 변경은 스냅샷에 보이지 않음")
+    void snapshot_whenWrittenAfterOpen_thenSeesOpenTimeBalances() {
+        // given
+        balanceVersionStore.onCommitted(new UserPoint(1L, 1000L, 0L), null);
+        balanceVersionStore.onCommitted(new UserPoint(2L, 2000L, 0L), null);
+
+        // when
+        List<UserPoint> seen = new ArrayList<>();
+        try (BalanceVersionStore.Snapshot snapshot = balanceVersionStore.openSnapshot()) {
+            balanceVersionStore.onCommitted(new UserPoint(1L, 1500L, 0L), null);
+            balanceVersionStore.onCommitted(new UserPoint(3L, 3000L, 0L), null);
+            snapshot.forEach(seen::add);
+        }
+
+        // then
+        assertThat(seen).containsExactlyInAnyOrder(
+                new UserPoint(1L, 1000L, 0L),
+                new UserPoint(2L, 2000L, 0L));
+    }
+
+    @Test
+    @DisplayName("스냅샷을 순회하는 도중에도 쓰기는 막히지 않음")
+    void snapshot_whenIterating_thenWritersProceed() throws Exception {
+        // given
+        for (long userId = 1; userId <= 100; userId++) {
+            balanceVersionStore.onCommitted(new UserPoint(userId, userId, 0L), null);
+        }
+        CountDownLatch iterating = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            try {
+                iterating.await();
+                for (long userId = 1; userId <= 100; userId++) {
+                    balanceVersionStore.onCommitted(new UserPoint(userId, userId + 1000, 0L), null);
+                }
+                written.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writer.start();
+
+        // when
+        List<UserPoint> seen = new ArrayList<>();
+        boolean[] writerFinishedDuringIteration = {false};
+        try (BalanceVersionStore.Snapshot snapshot = balanceVersionStore.openSnapshot()) {
+            snapshot.forEach(userPoint -> {
+                if (seen.isEmpty()) {
+                    // 순회를 멈춘 채로 다른 스레드의 쓰기가 모두 끝나야 함
+                    iterating.countDown();
+                    try {
+                        writerFinishedDuringIteration[0] = written.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                seen.add(userPoint);
+            });
+        }
+        writer.join();
+
+        // then
+        assertThat(writerFinishedDuringIteration[0]).isTrue();
+        assertThat(seen).hasSize(100).allSatisfy(userPoint -> assertThat(userPoint.point()).isEqualTo(userPoint.id()));
+        try (BalanceVersionStore.Snapshot snapshot = balanceVersionStore.openSnapshot()) {
+            snapshot.forEach(userPoint -> assertThat(userPoint.point()).isEqualTo(userPoint.id() + 1000));
+        }
+    }
+
+    @Test
+    @DisplayName("여러 세그먼트로 병렬 압축해도 하나의 gzip 으로 풀림")
+    void export_whenManySegments_thenSingleGzipStream() throws Exception {
+        // given
+        PointExportProperties properties = new PointExportProperties();
+        properties.setSegmentSize(7);
+        properties.setParallelism(3);
+        PointExportService pointExportService = new PointExportService(balanceVersionStore, properties);
+        int userCount = 100;
+        for (long userId = 1; userId <= userCount; userId++) {
+            balanceVersionStore.onCommitted(new UserPoint(userId, userId * 10, 0L), null);
+        }
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        pointExportService.export(pointExportService.openSnapshot(), out);
+        pointExportService.shutdown();
+
+        // then
+        List<String> lines;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            lines = new String(gzip.readAllBytes(), StandardCharsets.US_ASCII).lines().toList();
+        }
+        assertThat(lines).hasSize(userCount);
+        assertThat(lines).contains("{\"id\":42,\"point\":420,\"updateMillis\":0}");
+    }
+}
@@ -0,0 +1,289 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.config.PointHotKeyProperties;
+import io.hhplus.tdd.database.latency.FixedLatency;
+import io.hhplus.tdd.database.latency.LatencyModelPointHistoryTable;
+import io.hhplus.tdd.database.latency.LatencyModelUserPointTable;
+import io.hhplus.tdd.error.InsufficientPointException;
+import io.hhplus.tdd.error.StorageFaultException;
+import io.hhplus.tdd.point.model.HotKeyEntry;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.HotKeyDetector;
+import io.hhplus.tdd.point.service.PointChangeListener;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PointHotKeyUnitTest {
+
+    @Test
+    @DisplayName("요청이 몰린 유저만 hot 으로 표시")
+    void record_whenTrafficIsSkewed_thenOnlyHeavyHitterIsHot() {
+        // given
+        HotKeyDetector detector = new HotKeyDetector(properties(50, 10, 8));
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            detector.record(1L);
+        }
+        for (long userId = 2; userId < 1000; userId++) {
+            detector.record(userId);
+        }
+
+        // then
+        assertThat(detector.isHot(1L)).isTrue();
+        assertThat(detector.hotKeys()).extracting(HotKeyEntry::userId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("요청이 줄어 감쇠된 추정치가 해제 기준 아래로 내려가면 해제하고 알림")
+    void decay_whenTrafficStops_thenCooledAndNotified() {
+        // given
+        HotKeyDetector detector = new HotKeyDetector(properties(50, 10, 8));
+        List<Long> cooled = new ArrayList<>();
+        detector.onCooled(cooled::add);
+        for (int i = 0; i < 100; i++) {
+            detector.record(1L);
+        }
+
+        // when + then
+        detector.decay();
+        detector.decay();
+        detector.decay();
+        assertThat(detector.isHot(1L)).as("추정치 12 는 해제 기준 이상").isTrue();
+        detector.decay();
+        assertThat(detector.isHot(1L)).isFalse();
+        assertThat(cooled).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("hot 유저 수가 한도에 차면 가장 덜 몰린 유저를 밀어냄")
+    void record_whenMaxHotKeysReached_thenColdestEvicted() {
+        // given
+        HotKeyDetector detector = new HotKeyDetector(properties(50, 10, 2));
+
+        // when
+        for (int i = 0; i < 60; i++) {
+            detector.record(1L);
+        }
+        for (int i = 0; i < 70; i++) {
+            detector.record(2L);
+        }
+        for (int i = 0; i < 80; i++) {
+            detector.record(3L);
+        }
+
+        // then
+        assertThat(detector.hotKeys()).extracting(HotKeyEntry::userId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("hot 유저의 동시 충전/사용을 묶어 처리해도 잔액, 내역, 리스너 순서가 맞음")
+    void charge_whenUserIsHot_thenCombinedUpdatesStayConsistent() throws Exception {
+        // given
+        long userId = 1L;
+        int threadCount = 8;
+        int requestsPerThread = 50;
+        LatencyModelUserPointTable userPointTable = new LatencyModelUserPointTable(new FixedLatency(200), new FixedLatency(300));
+        LatencyModelPointHistoryTable pointHistoryTable = new LatencyModelPointHistoryTable(new FixedLatency(0), new FixedLatency(0));
+        List<UserPoint> committed = new CopyOnWriteArrayList<>();
+        List<PointHistory> histories = new CopyOnWriteArrayList<>();
+        PointChangeListener listener = (userPoint, history) -> {
+            committed.add(userPoint);
+            histories.add(history);
+        };
+        HotKeyDetector detector = new HotKeyDetector(properties(1, 0, 8));
+        PointService pointService = new PointService(userPointTable, pointHistoryTable, 1000000L, List.of(listener), detector);
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < requestsPerThread; i++) {
+                    pointService.charge(userId, 100);
+                    pointService.use(userId, 40);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        int operations = threadCount * requestsPerThread * 2;
+        long expected = threadCount * requestsPerThread * 60L;
+        assertThat(detector.isHot(userId)).isTrue();
+        assertThat(userPointTable.selectById(userId).point()).isEqualTo(expected);
+        assertThat(pointService.findUserPointById(userId).point()).isEqualTo(expected);
+        assertThat(pointService.loadPointHistories(userId)).hasSize(operations);
+        assertThat(pointService.versionOf(userId)).isEqualTo(operations);
+        long point = 0;
+        for (int i = 0; i < operations; i++) {
+            PointHistory history = histories.get(i);
+            point += history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+            assertThat(committed.get(i).point()).isEqualTo(point);
+        }
+    }
+
+    @Test
+    @DisplayName("묶음 안에서 잔액이 부족한 요청만 실패")
+    void use_whenUserIsHotAndPointInsufficient_thenOnlyThatRequestFails() {
+        // given
+        long userId = 2L;
+        LatencyModelUserPointTable userPointTable = new LatencyModelUserPointTable(new FixedLatency(0), new FixedLatency(0));
+        LatencyModelPointHistoryTable pointHistoryTable = new LatencyModelPointHistoryTable(new FixedLatency(0), new FixedLatency(0));
+        PointService pointService = new PointService(userPointTable, pointHistoryTable, 1000000L, List.of(),
+                new HotKeyDetector(properties(1, 0, 8)));
+
+        // when
+        pointService.charge(userId, 100);
+
+        // then
+        assertThatThrownBy(() -> pointService.use(userId, 101)).isInstanceOf(InsufficientPointException.class);
+        assertThat(pointService.use(userId, 100).point()).isZero();
+        assertThat(pointService.loadPointHistories(userId)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("묶음 안에서 잔액 저장 뒤 내역 기록에 실패한 요청은 일반 경로처럼 잔액에 남은 채 실패를 받음")
+    void charge_whenHistoryInsertFailsInBatch_thenAppliedLikeNonHotPath() throws Exception {
+        // given
+        long userId = 3L;
+        long faultyAmount = 13L;
+        LatencyModelUserPointTable userPointTable = new LatencyModelUserPointTable(new FixedLatency(0), new FixedLatency(0));
+        LatencyModelPointHistoryTable pointHistoryTable = new LatencyModelPointHistoryTable(new FixedLatency(0), new FixedLatency(0)) {
+            @Override
+            public PointHistory insert(long id, long amount, TransactionType type, long updateMillis) {
+                if (amount == faultyAmount) {
+                    throw new StorageFaultException("주입된 내역 저장 장애");
+                }
+                return super.insert(id, amount, type, updateMillis);
+            }
+        };
+        List<PointHistory> notified = new CopyOnWriteArrayList<>();
+        PointChangeListener listener = (userPoint, history) -> notified.add(history);
+        PointService pointService = new PointService(userPointTable, pointHistoryTable, 1000000L, List.of(listener),
+                new HotKeyDetector(properties(1, 0, 8)));
+
+        // when
+        List<CompletableFuture<UserPoint>> results = pointService.withUserLock(userId, () -> List.of(
+                queued(() -> pointService.charge(userId, 100)),
+                queued(() -> pointService.charge(userId, faultyAmount)),
+                queued(() -> pointService.use(userId, 100 + faultyAmount)),
+                queued(() -> pointService.use(userId, 60))));
+
+        // then
+        assertThat(results.get(0).join().point()).isEqualTo(100L);
+        assertThatThrownBy(results.get(1)::join).hasCauseInstanceOf(StorageFaultException.class);
+        assertThat(results.get(2).join().point()).isZero();
+        assertThatThrownBy(results.get(3)::join).hasCauseInstanceOf(InsufficientPointException.class);
+        assertThat(userPointTable.selectById(userId).point()).isZero();
+        assertThat(pointService.loadPointHistories(userId)).hasSize(2);
+        assertThat(notified).hasSize(3);
+        assertThat(notified.get(1)).as("내역 없이 반영된 변경도 리스너에 전달").isNull();
+    }
+
+    @Test
+    @DisplayName("묶음의 잔액 저장이 실패해도 요청마다 자기 실패 사유를 받음")
+    void use_whenBatchStoreFails_thenEachRequestReportsOwnFailure() throws Exception {
+        // given
+        long userId = 4L;
+        LatencyModelUserPointTable userPointTable = new LatencyModelUserPointTable(new FixedLatency(0), new FixedLatency(0)) {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                throw new StorageFaultException("주입된 잔액 저장 장애");
+            }
+        };
+        LatencyModelPointHistoryTable pointHistoryTable = new LatencyModelPointHistoryTable(new FixedLatency(0), new FixedLatency(0));
+        PointService pointService = new PointService(userPointTable, pointHistoryTable, 1000000L, List.of(),
+                new HotKeyDetector(properties(1, 0, 8)));
+
+        // when
+        List<CompletableFuture<UserPoint>> results = pointService.withUserLock(userId, () -> List.of(
+                queued(() -> pointService.use(userId, 1000)),
+                queued(() -> pointService.charge(userId, 100))));
+
+        // then
+        assertThatThrownBy(results.get(0)::join).hasCauseInstanceOf(InsufficientPointException.class);
+        assertThatThrownBy(results.get(1)::join).hasCauseInstanceOf(StorageFaultException.class);
+        assertThat(pointService.findUserPointById(userId).point()).isZero();
+        assertThat(pointService.loadPointHistories(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("hot 에서 해제되면 유저 락 안에서 남은 요청을 처리한 뒤 일반 경로로 돌아감")
+    void decay_whenHotUserCooled_thenPendingRequestsDrainedUnderLock() throws Exception {
+        // given
+        long userId = 5L;
+        HotKeyDetector detector = new HotKeyDetector(properties(1, 1000, 8));
+        PointService pointService = new PointService(
+                new LatencyModelUserPointTable(new FixedLatency(0), new FixedLatency(0)),
+                new LatencyModelPointHistoryTable(new FixedLatency(0), new FixedLatency(0)),
+                1000000L, List.of(), detector);
+
+        // when
+        List<CompletableFuture<UserPoint>> results = pointService.withUserLock(userId, () -> {
+            List<CompletableFuture<UserPoint>> queued = List.of(
+                    queued(() -> pointService.charge(userId, 100)),
+                    queued(() -> pointService.use(userId, 30)));
+            detector.decay();
+            return queued;
+        });
+
+        // then
+        assertThat(detector.isHot(userId)).isFalse();
+        assertThat(results.get(0).join().point()).isEqualTo(100L);
+        assertThat(results.get(1).join().point()).isEqualTo(70L);
+        assertThat(pointService.use(userId, 70).point()).isZero();
+        assertThat(pointService.loadPointHistories(userId)).hasSize(3);
+    }
+
+    /**
+     * 유저 락을 잡은 상태에서 호출해 요청이 큐에 들어가고 락을 기다릴 때까지 대기 (호출 순서대로 묶음에 들어감)
+     */
+    private static CompletableFuture<UserPoint> queued(Supplier<UserPoint> request) {
+        CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(request.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        thread.start();
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        return result;
+    }
+
+    private static PointHotKeyProperties properties(long hotThreshold, long coolThreshold, int maxHotKeys) {
+        PointHotKeyProperties properties = new PointHotKeyProperties();
+        properties.setEnabled(true);
+        properties.setHotThreshold(hotThreshold);
+        properties.setCoolThreshold(coolThreshold);
+        properties.setMaxHotKeys(maxHotKeys);
+        return properties;
+    }
+}
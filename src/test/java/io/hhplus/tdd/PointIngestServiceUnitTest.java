@@ -0,0 +1,205 @@
+package io.hhplus.tdd;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.config.PointIngestProperties;
+import io.hhplus.tdd.config.PointPartitionProperties;
+import io.hhplus.tdd.error.InsufficientPointException;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.PointIngestService;
+import io.hhplus.tdd.point.service.PointPartitionService;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+public class PointIngestServiceUnitTest {
+
+    private final PointService pointService = mock(PointService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    private PointIngestProperties properties;
+    private PointIngestService pointIngestService;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new PointIngestProperties();
+        properties.setParallelism(4);
+        properties.setLaneQueueCapacity(2);
+        properties.setProgressInterval(2);
+        properties.setMaxLineLength(100);
+        properties.setMaxConcurrentIngests(1);
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(4);
+        executor.initialize();
+        pointIngestService = new PointIngestService(pointService, objectMapper, properties, executor, Optional.empty());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 줄은 파일 순서대로 반영")
+    void ingest_whenSameUser_thenAppliedInFileOrder() throws Exception {
+        // given
+        String body = """
+                {"userId":1,"type":"CHARGE","amount":1000}
+                {"userId":2,"type":"CHARGE","amount":500}
+                {"userId":1,"type":"USE","amount":300}
+                {"userId":1,"type":"CHARGE","amount":200}
+                """;
+        given(pointService.charge(anyLong(), anyLong())).willReturn(UserPoint.empty(1L));
+        given(pointService.use(anyLong(), anyLong())).willReturn(UserPoint.empty(1L));
+
+        // when
+        List<String> lines = ingest(body);
+
+        // then
+        InOrder inOrder = inOrder(pointService);
+        inOrder.verify(pointService).charge(1L, 1000L);
+        inOrder.verify(pointService).use(1L, 300L);
+        inOrder.verify(pointService).charge(1L, 200L);
+        verify(pointService).charge(2L, 500L);
+        assertThat(lines.get(lines.size() - 1))
+                .contains("\"type\":\"done\"", "\"read\":4", "\"applied\":4", "\"failed\":0");
+    }
+
+    @Test
+    @DisplayName("잘못된 줄과 반영 실패는 줄 번호와 함께 응답에 기록하고 나머지는 계속 처리")
+    void ingest_whenSomeLinesFail_thenReportsErrorsAndContinues() throws Exception {
+        // given
+        String body = """
+                {"userId":1,"type":"CHARGE","amount":1000}
+                not-json
+                {"userId":3,"type":"USE","amount":300}
+                {"userId":1,"type":"UNKNOWN","amount":1}
+                """ + "x".repeat(200) + "\n";
+        given(pointService.charge(anyLong(), anyLong())).willReturn(UserPoint.empty(1L));
+        given(pointService.use(3L, 300L)).willThrow(new InsufficientPointException("포인트가 부족합니다."));
+
+        // when
+        List<String> lines = ingest(body);
+
+        // then
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"type\":\"error\"", "\"line\":2"));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"line\":3", "포인트가 부족합니다."));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"type\":\"error\"", "\"line\":4"));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"type\":\"error\"", "\"line\":5"));
+        assertThat(lines.get(lines.size() - 1))
+                .contains("\"type\":\"done\"", "\"read\":5", "\"applied\":1", "\"failed\":4");
+    }
+
+    @Test
+    @DisplayName("진행 상황을 progress-interval 줄마다 기록")
+    void ingest_whenManyLines_thenWritesProgress() throws Exception {
+        // given
+        StringBuilder body = new StringBuilder();
+        for (long userId = 1; userId <= 6; userId++) {
+            body.append("{\"userId\":").append(userId).append(",\"type\":\"CHARGE\",\"amount\":100}\n");
+        }
+        given(pointService.charge(anyLong(), anyLong())).willReturn(UserPoint.empty(1L));
+
+        // when
+        List<String> lines = ingest(body.toString());
+
+        // then
+        assertThat(lines).filteredOn(line -> line.contains("\"type\":\"progress\"")).hasSize(3);
+        verify(pointService, times(6)).charge(anyLong(), eq(100L));
+    }
+
+    @Test
+    @DisplayName("파티션 모드에서는 이 노드가 담당하지 않는 유저의 줄을 반영하지 않고 오류로 기록")
+    void ingest_whenUserOwnedByOtherNode_thenRejectsLine() throws Exception {
+        // given
+        PointPartitionProperties partitionProperties = new PointPartitionProperties();
+        partitionProperties.setSelf("node-a");
+        partitionProperties.setNodes(List.of("node-a", "node-b"));
+        partitionProperties.setVirtualNodes(64);
+        PointPartitionService partitionService = new PointPartitionService(partitionProperties);
+        long owned = 1L;
+        while (!partitionService.isOwner(owned)) {
+            owned++;
+        }
+        long foreign = 1L;
+        while (partitionService.isOwner(foreign)) {
+            foreign++;
+        }
+        pointIngestService = new PointIngestService(pointService, objectMapper, properties, executor, Optional.of(partitionService));
+        String body = "{\"userId\":" + owned + ",\"type\":\"CHARGE\",\"amount\":100}\n"
+                + "{\"userId\":" + foreign + ",\"type\":\"CHARGE\",\"amount\":100}\n";
+        given(pointService.charge(anyLong(), anyLong())).willReturn(UserPoint.empty(owned));
+
+        // when
+        List<String> lines = ingest(body);
+
+        // then
+        verify(pointService).charge(owned, 100L);
+        verify(pointService, never()).charge(foreign, 100L);
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"type\":\"error\"", "\"line\":2", "node-b"));
+        assertThat(lines.get(lines.size() - 1)).contains("\"applied\":1", "\"failed\":1");
+    }
+
+    @Test
+    @DisplayName("userId 가 없는 줄은 0번 유저로 반영하지 않고 오류로 기록")
+    void ingest_whenUserIdMissing_thenRejectsLine() throws Exception {
+        // given
+        String body = "{\"type\":\"CHARGE\",\"amount\":100}\n";
+
+        // when
+        List<String> lines = ingest(body);
+
+        // then
+        verify(pointService, never()).charge(anyLong(), anyLong());
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"type\":\"error\"", "\"line\":1", "userId 가 없습니다."));
+        assertThat(lines.get(lines.size() - 1)).contains("\"applied\":0", "\"failed\":1");
+    }
+
+    @Test
+    @DisplayName("레인 제출이 거부되면 이미 시작한 레인을 끝내고 허가를 돌려준 뒤 실패")
+    void ingest_whenLaneSubmitRejected_thenStartedLanesFinishedAndPermitReleased() throws Exception {
+        // given
+        ThreadPoolTaskExecutor singleLaneExecutor = new ThreadPoolTaskExecutor();
+        singleLaneExecutor.setCorePoolSize(1);
+        singleLaneExecutor.setMaxPoolSize(1);
+        singleLaneExecutor.setQueueCapacity(1);
+        singleLaneExecutor.initialize();
+        pointIngestService = new PointIngestService(pointService, objectMapper, properties, singleLaneExecutor, Optional.empty());
+        given(pointService.charge(anyLong(), anyLong())).willReturn(UserPoint.empty(1L));
+        String body = "{\"userId\":1,\"type\":\"CHARGE\",\"amount\":100}\n";
+
+        try {
+            // when + then
+            assertThatThrownBy(() -> ingest(body)).isInstanceOf(RejectedExecutionException.class);
+
+            // 시작한 레인이 남아 있으면 하나뿐인 스레드를 계속 잡고 있어 다음 적재가 끝나지 않음
+            properties.setParallelism(1);
+            assertThat(ingest(body).get(0)).contains("\"type\":\"done\"", "\"applied\":1");
+        } finally {
+            singleLaneExecutor.shutdown();
+        }
+    }
+
+    private List<String> ingest(String body) throws Exception {
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        pointIngestService.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), response);
+        return response.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
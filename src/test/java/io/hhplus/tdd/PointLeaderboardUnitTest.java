@@ -0,0 +1,140 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.model.LeaderboardEntry;
+import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.PointLeaderboard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PointLeaderboardUnitTest {
+
+    private final PointLeaderboard pointLeaderboard = new PointLeaderboard();
+
+    @Test
+    @DisplayName("잔액이 많은 순으로 상위 N 명 조회")
+    void top_whenManyUsers_returnsHighestBalancesInOrder() {
+        // given
+        for (long userId = 1; userId <= 10; userId++) {
+            pointLeaderboard.onCommitted(new UserPoint(userId, userId * 1000, 0L), null);
+        }
+
+        // when
+        List<LeaderboardEntry> top = pointLeaderboard.top(3);
+
+        // then
+        assertThat(top).containsExactly(
+                new LeaderboardEntry(1, 10L, 10000L),
+                new LeaderboardEntry(2, 9L, 9000L),
+                new LeaderboardEntry(3, 8L, 8000L));
+    }
+
+    @Test
+    @DisplayName("잔액이 바뀌면 이전 순위 항목은 사라지고 새 순위로 이동")
+    void top_whenBalanceChanges_thenRankMoves() {
+        // given
+        pointLeaderboard.onCommitted(new UserPoint(1L, 1000L, 0L), null);
+        pointLeaderboard.onCommitted(new UserPoint(2L, 2000L, 0L), null);
+
+        // when
+        pointLeaderboard.onCommitted(new UserPoint(1L, 3000L, 0L), null);
+
+        // then
+        assertThat(pointLeaderboard.top(10)).containsExactly(
+                new LeaderboardEntry(1, 1L, 3000L),
+                new LeaderboardEntry(2, 2L, 2000L));
+    }
+
+    @Test
+    @DisplayName("잔액을 모두 사용한 유저는 순위에서 제외")
+    void top_whenBalanceBecomesZero_thenRemoved() {
+        // given
+        pointLeaderboard.onCommitted(new UserPoint(1L, 1000L, 0L), null);
+        pointLeaderboard.onCommitted(new UserPoint(2L, 2000L, 0L), null);
+
+        // when
+        pointLeaderboard.onCommitted(new UserPoint(2L, 0L, 0L), null);
+
+        // then
+        assertThat(pointLeaderboard.top(10)).containsExactly(new LeaderboardEntry(1, 1L, 1000L));
+    }
+
+    @Test
+    @DisplayName("잔액이 같으면 유저 ID 순")
+    void top_whenSameBalance_thenOrderedByUserId() {
+        pointLeaderboard.onCommitted(new UserPoint(7L, 500L, 0L), null);
+        pointLeaderboard.onCommitted(new UserPoint(3L, 500L, 0L), null);
+
+        assertThat(pointLeaderboard.top(10)).extracting(LeaderboardEntry::userId).containsExactly(3L, 7L);
+    }
+
+    @Test
+    @DisplayName("같은 유저의 잔액이 여러 스레드에서 동시에 바뀌어도 순위에는 항목이 하나만 남음")
+    void update_whenSameUserUpdatedConcurrently_thenSingleEntry() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int updatesPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            long offset = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < updatesPerThread; i++) {
+                    pointLeaderboard.update(1L, 1 + offset * updatesPerThread + i);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(pointLeaderboard.top(10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("순위를 읽는 중에 잔액이 바뀌어도 같은 유저가 두 번 나오지 않음")
+    void top_whenReadDuringUpdates_thenNoDuplicateUser() throws InterruptedException {
+        // given
+        for (long userId = 2; userId <= 10; userId++) {
+            pointLeaderboard.update(userId, userId * 1000);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            long point = 1;
+            while (running.get()) {
+                // 다른 유저들 사이를 위아래로 오가며 skip list 의 위치가 계속 바뀜
+                pointLeaderboard.update(1L, point % 2 == 0 ? 20_000 + point : point);
+                point++;
+            }
+        });
+        writer.start();
+
+        // when + then
+        try {
+            for (int i = 0; i < 100_000; i++) {
+                List<LeaderboardEntry> top = pointLeaderboard.top(10);
+                assertThat(top).extracting(LeaderboardEntry::userId).doesNotHaveDuplicates();
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.config.PointAuditProperties;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import io.hhplus.tdd.point.service.LongSumMap;
+import io.hhplus.tdd.point.service.PointLedger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PointLedgerUnitTest {
+
+    private static final int USER_COUNT = 200;
+    // stripe 64 개 x 청크 16384 건이므로 모든 stripe 에 청크가 2개 이상 생기는 양
+    private static final int FOLDING_COUNT = 3_000_000;
+
+    @Test
+    @DisplayName("오래된 청크를 접어도 유저별 합계는 전체 내역 합계와 같음")
+    void snapshot_whenOldChunksFolded_thenTotalsMatchAllHistories() {
+        // given
+        PointLedger ledger = new PointLedger(properties(1));
+        Map<Long, Long> expected = new HashMap<>();
+        append(ledger, FOLDING_COUNT, new Random(1), expected);
+
+        // when
+        List<PointLedger.Snapshot> snapshots = ledger.snapshot();
+        Map<Long, Long> totals = totals(snapshots);
+        ledger.release();
+
+        // then
+        assertThat(snapshots).allMatch(snapshot -> snapshot.firstPosition() > 0, "오래된 청크가 접힘");
+        assertThat(totals).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("감사 중에는 캡처 위치 이후 구간을 접지 않아 뒤따른 변경을 더할 수 있음")
+    void sumOf_whenAppendedAfterSnapshot_thenTailIsStillReadable() {
+        // given
+        PointLedger ledger = new PointLedger(properties(1));
+        Random random = new Random(2);
+        append(ledger, FOLDING_COUNT, random, new HashMap<>());
+        long userId = 7L;
+        ledger.snapshot();
+        long scanned = ledger.position(userId);
+
+        // when
+        Map<Long, Long> tail = new HashMap<>();
+        append(ledger, FOLDING_COUNT, random, tail);
+        long sum = ledger.sumOf(userId, scanned, ledger.position(userId));
+        ledger.release();
+
+        // then
+        assertThat(sum).isEqualTo(tail.getOrDefault(userId, 0L));
+    }
+
+    private static Map<Long, Long> totals(List<PointLedger.Snapshot> snapshots) {
+        Map<Long, Long> totals = new HashMap<>();
+        for (PointLedger.Snapshot snapshot : snapshots) {
+            LongSumMap sums = snapshot.base();
+            snapshot.accumulate(snapshot.firstPosition(), snapshot.size(), sums);
+            for (int slot = 0; slot < sums.capacity(); slot++) {
+                if (sums.occupied(slot)) {
+                    totals.put(sums.keyAt(slot), sums.valueAt(slot));
+                }
+            }
+        }
+        return totals;
+    }
+
+    private static void append(PointLedger ledger, int count, Random random, Map<Long, Long> expected) {
+        for (int i = 0; i < count; i++) {
+            long userId = random.nextInt(USER_COUNT);
+            long amount = 1 + random.nextInt(1000);
+            TransactionType type = random.nextBoolean() ? TransactionType.CHARGE : TransactionType.USE;
+            ledger.onCommitted(null, new PointHistory(i, userId, amount, type, 0L));
+            expected.merge(userId, type == TransactionType.CHARGE ? amount : -amount, Long::sum);
+        }
+    }
+
+    private static PointAuditProperties properties(long maxBufferedEntries) {
+        PointAuditProperties properties = new PointAuditProperties();
+        properties.setLedgerMaxBufferedEntries(maxBufferedEntries);
+        return properties;
+    }
+}
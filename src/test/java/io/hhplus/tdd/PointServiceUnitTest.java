@@ -1,13 +1,17 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.config.PointHotKeyProperties;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.error.ExceedMaxChargeAmountException;
 import io.hhplus.tdd.error.InsufficientPointException;
 import io.hhplus.tdd.error.InvalidAmountException;
+import io.hhplus.tdd.error.StorageFaultException;
 import io.hhplus.tdd.point.model.PointHistory;
 import io.hhplus.tdd.point.model.TransactionType;
 import io.hhplus.tdd.point.model.UserPoint;
+import io.hhplus.tdd.point.service.HotKeyDetector;
+import io.hhplus.tdd.point.service.PointChangeListener;
 import io.hhplus.tdd.point.service.PointService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +26,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.eq;
 
@@ -35,7 +40,7 @@ public class PointServiceUnitTest {
 
     @BeforeEach
     public void setUp() {
-        pointService = new PointService(userPointTable, pointHistoryTable, 1000000L);
+        pointService = new PointService(userPointTable, pointHistoryTable, 1000000L, List.of(), new HotKeyDetector(new PointHotKeyProperties()));
     }
 
     /**
@@ -186,4 +191,99 @@ public class PointServiceUnitTest {
         assertThatThrownBy(() -> pointService.use(userId, point + 1)).isInstanceOf(InsufficientPointException.class);
     }
 
+    @Test
+    @DisplayName("변경에 성공할 때만 유저 버전이 올라감")
+    void versionOf_whenUpdated_thenIncreasesOnlyOnSuccess() {
+        // given
+        long userId = 1L;
+        given(userPointTable.selectById(userId)).willReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+        given(userPointTable.insertOrUpdate(eq(userId), anyLong()))
+                .willAnswer(invocation -> new UserPoint(userId, invocation.getArgument(1), System.currentTimeMillis()));
+        long before = pointService.versionOf(userId);
+
+        // when
+        pointService.charge(userId, 1000L);
+        assertThatThrownBy(() -> pointService.use(userId, 10_000L)).isInstanceOf(InsufficientPointException.class);
+
+        // then
+        assertThat(before).isZero();
+        assertThat(pointService.versionOf(userId)).isEqualTo(1L);
+        assertThat(pointService.versionOf(userId + 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("잔액 반영 후 내역 기록이 실패해도 유저 버전이 올라감")
+    void versionOf_whenHistoryInsertFails_thenStillIncreases() {
+        // given
+        long userId = 1L;
+        given(userPointTable.selectById(userId)).willReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+        given(userPointTable.insertOrUpdate(eq(userId), anyLong()))
+                .willAnswer(invocation -> new UserPoint(userId, invocation.getArgument(1), System.currentTimeMillis()));
+        given(pointHistoryTable.insert(eq(userId), anyLong(), any(TransactionType.class), anyLong()))
+                .willThrow(new StorageFaultException("주입된 저장소 장애"));
+
+        // when
+        assertThatThrownBy(() -> pointService.charge(userId, 1000L)).isInstanceOf(StorageFaultException.class);
+
+        // then
+        verify(userPointTable).insertOrUpdate(userId, 1500L);
+        assertThat(pointService.versionOf(userId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("반영된 변경은 모든 리스너에 전달되고, 리스너 실패는 요청 실패로 이어지지 않음")
+    void charge_whenCommitted_thenListenersNotified() {
+        // given
+        long userId = 1L;
+        UserPoint updatedUserPoint = new UserPoint(userId, 1500L, System.currentTimeMillis());
+        PointHistory history = new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, System.currentTimeMillis());
+        given(userPointTable.selectById(userId)).willReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+        given(userPointTable.insertOrUpdate(userId, 1500L)).willReturn(updatedUserPoint);
+        given(pointHistoryTable.insert(eq(userId), eq(1000L), eq(TransactionType.CHARGE), anyLong())).willReturn(history);
+        List<PointHistory> notified = new ArrayList<>();
+        PointChangeListener failing = (userPoint, committed) -> {
+            throw new IllegalStateException("리스너 오류");
+        };
+        PointChangeListener recording = (userPoint, committed) -> {
+            assertThat(userPoint).isEqualTo(updatedUserPoint);
+            notified.add(committed);
+        };
+        PointService notifyingService = new PointService(userPointTable, pointHistoryTable, 1000000L,
+                List.of(failing, recording), new HotKeyDetector(new PointHotKeyProperties()));
+
+        // when
+        UserPoint result = notifyingService.charge(userId, 1000L);
+
+        // then
+        assertThat(result).isEqualTo(updatedUserPoint);
+        assertThat(notified).containsExactly(history);
+    }
+
+    @Test
+    @DisplayName("잔액 반영 후 내역 기록이 실패해도 리스너에는 내역 없이 변경을 전달")
+    void charge_whenHistoryInsertFails_thenListenersStillNotified() {
+        // given
+        long userId = 1L;
+        UserPoint updatedUserPoint = new UserPoint(userId, 1500L, System.currentTimeMillis());
+        given(userPointTable.selectById(userId)).willReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+        given(userPointTable.insertOrUpdate(userId, 1500L)).willReturn(updatedUserPoint);
+        given(pointHistoryTable.insert(eq(userId), anyLong(), any(TransactionType.class), anyLong()))
+                .willThrow(new StorageFaultException("주입된 저장소 장애"));
+        List<UserPoint> notifiedPoints = new ArrayList<>();
+        List<PointHistory> notifiedHistories = new ArrayList<>();
+        PointChangeListener recording = (userPoint, committed) -> {
+            notifiedPoints.add(userPoint);
+            notifiedHistories.add(committed);
+        };
+        PointService notifyingService = new PointService(userPointTable, pointHistoryTable, 1000000L,
+                List.of(recording), new HotKeyDetector(new PointHotKeyProperties()));
+
+        // when
+        assertThatThrownBy(() -> notifyingService.charge(userId, 1000L)).isInstanceOf(StorageFaultException.class);
+
+        // then
+        assertThat(notifiedPoints).containsExactly(updatedUserPoint);
+        assertThat(notifiedHistories).containsExactly((PointHistory) null);
+    }
+
 }
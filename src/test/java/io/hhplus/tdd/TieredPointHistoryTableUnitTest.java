@@ -0,0 +1,133 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.latency.FixedLatency;
+import io.hhplus.tdd.database.latency.LatencyModel;
+import io.hhplus.tdd.database.tiered.TieredPointHistoryTable;
+import io.hhplus.tdd.point.model.PointHistory;
+import io.hhplus.tdd.point.model.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TieredPointHistoryTableUnitTest {
+
+    private static final int HOT_CAPACITY = 100;
+
+    @TempDir
+    Path baseDirectory;
+
+    private Path directory;
+    private TieredPointHistoryTable table;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        directory = baseDirectory.resolve("instance");
+        table = new TieredPointHistoryTable(new FixedLatency(0), new FixedLatency(0), directory, HOT_CAPACITY);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        table.close();
+    }
+
+    @Test
+    @DisplayName("hot 과 세그먼트에 나뉜 내역을 id 순서대로 합쳐 조회")
+    void selectAllByUserId_whenSpreadAcrossTiers_thenMergedInInsertOrder() throws Exception {
+        // given
+        int userCount = 37;
+        Map<Long, List<Long>> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < HOT_CAPACITY * 10 + 15; i++) {
+            long userId = random.nextInt(userCount);
+            PointHistory history = table.insert(userId, i, TransactionType.CHARGE, i);
+            expected.computeIfAbsent(userId, id -> new ArrayList<>()).add(history.id());
+        }
+
+        // when
+        awaitSealed(10);
+
+        // then
+        for (long userId = 0; userId <= userCount; userId++) {
+            assertThat(table.selectAllByUserId(userId))
+                    .extracting(PointHistory::id)
+                    .as("유저 %d 내역".formatted(userId))
+                    .containsExactlyElementsOf(expected.getOrDefault(userId, List.of()));
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트에서 읽은 내역도 원래 값과 같음")
+    void selectAllByUserId_whenSealed_thenRowsPreserved() throws Exception {
+        // given
+        List<PointHistory> inserted = new ArrayList<>();
+        for (int i = 0; i < HOT_CAPACITY; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            PointHistory history = table.insert(1L, i * 10L, type, 1000L + i);
+            if (history.userId() == 1L) {
+                inserted.add(history);
+            }
+        }
+
+        // when
+        awaitSealed(1);
+
+        // then
+        assertThat(table.selectAllByUserId(1L)).containsExactlyElementsOf(inserted);
+    }
+
+    @Test
+    @DisplayName("조회마다 select 지연 모델을 적용")
+    void selectAllByUserId_whenCalled_thenSelectLatencyApplied() throws Exception {
+        // given
+        AtomicInteger selectCalls = new AtomicInteger();
+        LatencyModel countingLatency = () -> {
+            selectCalls.incrementAndGet();
+            return 0;
+        };
+        table.close();
+        table = new TieredPointHistoryTable(new FixedLatency(0), countingLatency, directory, HOT_CAPACITY);
+        table.insert(1L, 100, TransactionType.CHARGE, 1);
+
+        // when
+        table.selectAllByUserId(1L);
+        table.selectAllByUserId(2L);
+
+        // then
+        assertThat(selectCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("닫으면 세그먼트 파일과 디렉터리를 지우고 이후 조회는 거부")
+    void close_whenSegmentsExist_thenDirectoryDeletedAndReadsRejected() throws Exception {
+        // given
+        for (int i = 0; i < HOT_CAPACITY * 3; i++) {
+            table.insert(i % 7, i, TransactionType.CHARGE, i);
+        }
+        awaitSealed(3);
+        assertThat(directory).isNotEmptyDirectory();
+
+        // when
+        table.close();
+
+        // then
+        assertThat(directory).doesNotExist();
+        assertThatThrownBy(() -> table.selectAllByUserId(1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void awaitSealed(int segments) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (table.segmentCount() < segments && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(table.segmentCount()).isEqualTo(segments);
+    }
+}
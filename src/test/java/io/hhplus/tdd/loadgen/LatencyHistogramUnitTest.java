@@ -0,0 +1,74 @@
+package io.hhplus.tdd.loadgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// LatencyHistogram 은 loadtest 소스셋의 package-private 클래스라 같은 패키지에 둔다.
+public class LatencyHistogramUnitTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    @DisplayName("기록이 없으면 모든 백분위가 0")
+    void percentile_whenEmpty_thenZero() {
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.percentile(99)).isZero();
+    }
+
+    @Test
+    @DisplayName("32 미만의 값은 정확한 버킷에 기록")
+    void percentile_whenSmallValues_thenExact() {
+        // given
+        for (long micros = 0; micros < 32; micros++) {
+            histogram.record(micros);
+        }
+
+        // when & then
+        assertThat(histogram.count()).isEqualTo(32);
+        assertThat(histogram.percentile(50)).isEqualTo(15);
+        assertThat(histogram.percentile(100)).isEqualTo(31);
+    }
+
+    @Test
+    @DisplayName("큰 값도 버킷 상한이 실제 값 이상이고 상대 오차 1/16 이내")
+    void percentile_whenLargeValue_thenUpperBoundWithinRelativeError() {
+        long[] samples = {32, 33, 100, 1_000, 4_095, 4_096, 123_456, 10_000_000, 987_654_321};
+        for (long micros : samples) {
+            // given
+            LatencyHistogram single = new LatencyHistogram();
+            single.record(micros);
+
+            // when
+            long upperBound = single.percentile(100);
+
+            // then
+            assertThat(upperBound).isBetween(micros, micros + micros / 16);
+        }
+    }
+
+    @Test
+    @DisplayName("균등하게 기록하면 백분위가 순위에 맞는 값으로 나옴")
+    void percentile_whenUniform_thenMatchesRank() {
+        // given
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros);
+        }
+
+        // when & then
+        assertThat(histogram.percentile(50)).isBetween(5_000L, 5_000L + 5_000L / 16);
+        assertThat(histogram.percentile(90)).isBetween(9_000L, 9_000L + 9_000L / 16);
+        assertThat(histogram.percentile(99)).isBetween(9_900L, 9_900L + 9_900L / 16);
+        assertThat(histogram.percentile(100)).isBetween(10_000L, 10_000L + 10_000L / 16);
+    }
+
+    @Test
+    @DisplayName("음수는 0 으로 기록")
+    void record_whenNegative_thenCountedAsZero() {
+        histogram.record(-5);
+
+        assertThat(histogram.count()).isEqualTo(1);
+        assertThat(histogram.percentile(100)).isZero();
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.loadgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ZipfianGenerator 는 loadtest 소스셋의 package-private 클래스라 같은 패키지에 둔다.
+public class ZipfianGeneratorUnitTest {
+
+    private static final int ITEM_COUNT = 1_000;
+    private static final int DRAWS = 200_000;
+
+    @Test
+    @DisplayName("생성한 값은 모두 [0, itemCount) 범위")
+    void next_whenDrawn_thenWithinRange() {
+        // given
+        ZipfianGenerator generator = new ZipfianGenerator(ITEM_COUNT, 0.99);
+
+        // when & then
+        for (int i = 0; i < DRAWS; i++) {
+            assertThat(generator.next()).isBetween(0L, ITEM_COUNT - 1L);
+        }
+    }
+
+    @Test
+    @DisplayName("앞쪽 값일수록 자주 나오고 첫 값의 비율은 1 / zeta(n, theta) 에 가까움")
+    void next_whenSkewed_thenFrontItemsDominate() {
+        // given
+        double theta = 0.99;
+        long[] counts = draw(new ZipfianGenerator(ITEM_COUNT, theta));
+        double zeta = 0;
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            zeta += 1 / Math.pow(i, theta);
+        }
+
+        // when
+        double firstShare = (double) counts[0] / DRAWS;
+        long topTenPercent = 0;
+        for (int i = 0; i < ITEM_COUNT / 10; i++) {
+            topTenPercent += counts[i];
+        }
+
+        // then
+        assertThat(firstShare).isBetween(0.9 / zeta, 1.1 / zeta);
+        assertThat(counts[0]).isGreaterThan(counts[1]);
+        assertThat(counts[1]).isGreaterThan(counts[10]);
+        assertThat((double) topTenPercent / DRAWS).isGreaterThan(0.6);
+    }
+
+    @Test
+    @DisplayName("theta 가 클수록 첫 값에 더 몰림")
+    void next_whenThetaIncreases_thenMoreSkewed() {
+        long[] mild = draw(new ZipfianGenerator(ITEM_COUNT, 0.5));
+        long[] heavy = draw(new ZipfianGenerator(ITEM_COUNT, 0.99));
+
+        assertThat(heavy[0]).isGreaterThan(mild[0] * 2);
+    }
+
+    private static long[] draw(ZipfianGenerator generator) {
+        long[] counts = new long[ITEM_COUNT];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[(int) generator.next()]++;
+        }
+        return counts;
+    }
+}